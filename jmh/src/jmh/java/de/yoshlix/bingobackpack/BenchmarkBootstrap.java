@@ -0,0 +1,26 @@
+package de.yoshlix.bingobackpack;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Minecraft bootstrap shared by the benchmarks. Call from @Setup; repeated
+ * calls are free.
+ *
+ * Runs the vanilla bootstrap only. Fabric Loader is not running, so mod
+ * initializers do not run.
+ */
+public final class BenchmarkBootstrap {
+    private static boolean initialized = false;
+
+    private BenchmarkBootstrap() {
+    }
+
+    public static synchronized void init() {
+        if (initialized)
+            return;
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        initialized = true;
+    }
+}
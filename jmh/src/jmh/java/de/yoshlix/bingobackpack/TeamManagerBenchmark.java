@@ -0,0 +1,59 @@
+package de.yoshlix.bingobackpack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Team save: the encoding done on the save thread for both storage formats.
+ * Disk writes are left out, they would only measure the file system.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TeamManagerBenchmark {
+    @Param({ "4", "16" })
+    public int teamCount;
+
+    @Param({ "4" })
+    public int playersPerTeam;
+
+    private Map<String, List<UUID>> snapshot;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        snapshot = new LinkedHashMap<>();
+        for (int t = 0; t < teamCount; t++) {
+            List<UUID> members = new ArrayList<>();
+            for (int p = 0; p < playersPerTeam; p++) {
+                members.add(new UUID(random.nextLong(), random.nextLong()));
+            }
+            snapshot.put("team_" + t, members);
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return TeamManager.encodeJson(snapshot);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() throws IOException {
+        return TeamManager.encodeBinary(snapshot);
+    }
+}
@@ -0,0 +1,102 @@
+package de.yoshlix.bingobackpack.item;
+
+import de.yoshlix.bingobackpack.BenchmarkBootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item identification (every use and bundle interaction), stack creation
+ * (every drop and reward) and the drop roll of a mob kill.
+ *
+ * The drop roll benchmarks the DropTable that BingoItemManager.onMobKilled
+ * picks; the entity checks around it need a live world and are left out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BingoItemBenchmark {
+    private BingoItem item;
+    private ItemStack bingoStack;
+    private ItemStack plainPaper;
+    private ItemStack otherItem;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        BingoItemRegistry.init();
+
+        item = BingoItemRegistry.getDroppableItems().get(0);
+        bingoStack = item.createItemStack();
+        plainPaper = new ItemStack(Items.PAPER);
+        otherItem = new ItemStack(Items.DIAMOND_SWORD);
+    }
+
+    @Benchmark
+    public Optional<BingoItem> fromItemStackBingoItem() {
+        return BingoItemRegistry.fromItemStack(bingoStack);
+    }
+
+    @Benchmark
+    public Optional<BingoItem> fromItemStackPlainPaper() {
+        return BingoItemRegistry.fromItemStack(plainPaper);
+    }
+
+    @Benchmark
+    public Optional<BingoItem> fromItemStackOtherItem() {
+        return BingoItemRegistry.fromItemStack(otherItem);
+    }
+
+    @Benchmark
+    public ItemStack createItemStack() {
+        return item.createItemStack();
+    }
+
+    // Baseline without the prototype cache
+    @Benchmark
+    public ItemStack buildItemStack() {
+        return item.buildItemStack();
+    }
+
+    @Benchmark
+    public BingoItem rollDrop(Drops drops) {
+        return drops.table.roll(drops.random);
+    }
+
+    // Paid once per config change (drop multiplier, item registration)
+    @Benchmark
+    public DropTable buildDropTable(Drops drops) {
+        return DropTable.build(drops.droppable, drops.multiplier);
+    }
+
+    @State(Scope.Thread)
+    public static class Drops {
+        // Chance multiplier of the table: 1.0 for passive and normal mobs, 2.0 for the strongest
+        @Param({ "1.0", "2.0" })
+        public double multiplier;
+
+        private List<BingoItem> droppable;
+        private DropTable table;
+        private final Random random = new Random(42);
+
+        @Setup
+        public void setup() {
+            BenchmarkBootstrap.init();
+            BingoItemRegistry.init();
+            droppable = BingoItemRegistry.getDroppableItems();
+            table = DropTable.build(droppable, multiplier);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package de.yoshlix.bingobackpack.item;
+
+import me.jfenn.bingo.api.data.IBingoObjective;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The progress pass of BingoRewardSystem.checkBingoProgress against a fake
+ * 5x5 card: BingoRewardSystem.diffProgress and forEachNewObjective for every
+ * team. Rewards themselves are not part of it.
+ *
+ * Objectives are proxies of IBingoObjective whose hasAchieved answers from a
+ * fixed set of team ids, so the numbers cover the card state, not the Bingo
+ * mod's scoring.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BingoProgressBenchmark {
+    @Param({ "2", "8" })
+    public int teamCount;
+
+    private IBingoObjective[] objectives;
+    private BingoCardState card;
+    private String[] teamIds;
+    private long[] previousMasks;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        teamIds = new String[teamCount];
+        for (int t = 0; t < teamCount; t++) {
+            teamIds[t] = "team_" + t;
+        }
+
+        objectives = new IBingoObjective[BingoCardState.CELLS];
+        for (int i = 0; i < objectives.length; i++) {
+            Set<String> achievedBy = new HashSet<>();
+            for (String teamId : teamIds) {
+                if (random.nextInt(3) == 0) {
+                    achievedBy.add(teamId);
+                }
+            }
+            objectives[i] = fakeObjective("objective_" + i, achievedBy);
+        }
+        card = BingoCardState.of(this::objectiveAt);
+
+        // Last seen state is missing one completed field per team, so every pass finds a change
+        previousMasks = new long[teamCount];
+        for (int t = 0; t < teamCount; t++) {
+            long completed = card.completedMask(teamIds[t]);
+            previousMasks[t] = completed & (completed - 1);
+        }
+    }
+
+    private IBingoObjective objectiveAt(int x, int y) {
+        return objectives[BingoCardState.index(x, y)];
+    }
+
+    private static IBingoObjective fakeObjective(String id, Set<String> achievedBy) {
+        return (IBingoObjective) Proxy.newProxyInstance(IBingoObjective.class.getClassLoader(),
+                new Class<?>[] { IBingoObjective.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "hasAchieved" -> achievedBy.contains((String) args[0]);
+                    case "getId", "getDisplayName", "toString" -> id;
+                    case "hashCode" -> id.hashCode();
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @Benchmark
+    public void diffProgress(Blackhole blackhole) {
+        for (int t = 0; t < teamIds.length; t++) {
+            var diff = BingoRewardSystem.diffProgress(card, teamIds[t], previousMasks[t]);
+            BingoRewardSystem.forEachNewObjective(card, diff, blackhole::consume);
+            blackhole.consume(diff);
+        }
+    }
+
+    // Paid by BingoReadModel once per tick that asks for the card
+    @Benchmark
+    public BingoCardState buildCardState() {
+        return BingoCardState.of(this::objectiveAt);
+    }
+}
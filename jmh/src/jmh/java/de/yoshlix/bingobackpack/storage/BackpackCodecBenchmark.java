@@ -0,0 +1,112 @@
+package de.yoshlix.bingobackpack.storage;
+
+import de.yoshlix.bingobackpack.BenchmarkBootstrap;
+import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoItemRegistry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backpack payloads as the storage backends write and read them: the binary
+ * format with and without compression, a re-save of an unchanged backpack
+ * (every slot served from the EncodedSlotCache) and the legacy NBT format for
+ * comparison.
+ *
+ * The payload is a full default-size backpack, two thirds filled with
+ * stacks, damaged tools and Bingo Items from BingoItem.createItemStack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BackpackCodecBenchmark {
+    private static final int SIZE = 54;
+
+    @Param({ "false", "true" })
+    public boolean compress;
+
+    private BinaryBackpackCodec codec;
+    private BackpackSerializer serializer;
+    private ItemStack[] items;
+    private EncodedSlotCache warmCache;
+    private byte[] encoded;
+    private CompoundTag encodedNbt;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        BingoItemRegistry.init();
+        List<BingoItem> bingoItems = BingoItemRegistry.getDroppableItems();
+        RegistryAccess registries = RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY);
+        codec = new BinaryBackpackCodec(registries, compress);
+        serializer = new BackpackSerializer(registries);
+
+        items = new ItemStack[SIZE];
+        Arrays.fill(items, ItemStack.EMPTY);
+        for (int slot = 0; slot < SIZE * 2 / 3; slot++) {
+            items[slot] = switch (slot % 3) {
+                case 0 -> new ItemStack(Items.COBBLESTONE, 64);
+                case 1 -> damagedTool(slot);
+                default -> bingoItems.get(slot % bingoItems.size()).createItemStack();
+            };
+        }
+
+        warmCache = new EncodedSlotCache();
+        encoded = codec.encode(items, warmCache);
+        encodedNbt = serializer.encodeItems(items);
+    }
+
+    private static ItemStack damagedTool(int slot) {
+        ItemStack stack = new ItemStack(Items.DIAMOND_PICKAXE);
+        stack.set(DataComponents.DAMAGE, slot * 7);
+        return stack;
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(items);
+    }
+
+    // Re-save of an unchanged backpack
+    @Benchmark
+    public byte[] encodeCached() {
+        return codec.encode(items, warmCache);
+    }
+
+    @Benchmark
+    public ItemStack[] decode() throws IOException {
+        ItemStack[] out = new ItemStack[SIZE];
+        Arrays.fill(out, ItemStack.EMPTY);
+        codec.decode(encoded, out);
+        return out;
+    }
+
+    @Benchmark
+    public CompoundTag encodeLegacyNbt() {
+        return serializer.encodeItems(items);
+    }
+
+    @Benchmark
+    public ItemStack[] decodeLegacyNbt() {
+        ItemStack[] out = new ItemStack[SIZE];
+        Arrays.fill(out, ItemStack.EMPTY);
+        serializer.decodeItems(encodedNbt, out);
+        return out;
+    }
+}
@@ -1,17 +1,27 @@
 package de.yoshlix.bingobackpack;
 
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import de.yoshlix.bingobackpack.banish.BanishManager;
 import de.yoshlix.bingobackpack.item.items.Lockdown;
+import de.yoshlix.bingobackpack.storage.BackpackSnapshotStore;
+import de.yoshlix.bingobackpack.storage.BackpackSnapshotStore.SnapshotRef;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.EntityArgument;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
 public class BackpackAdminCommand {
+    private static final int SNAPSHOT_LIST_LIMIT = 10;
 
     public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
         dispatcher.register(Commands.literal("backpack")
@@ -22,7 +32,21 @@ public class BackpackAdminCommand {
                                         .executes(BackpackAdminCommand::clearBanish)))
                         .then(Commands.literal("clearlockdown")
                                 .then(Commands.argument("player", EntityArgument.player())
-                                        .executes(BackpackAdminCommand::clearLockdown)))));
+                                        .executes(BackpackAdminCommand::clearLockdown)))
+                        .then(Commands.literal("snapshot")
+                                .then(Commands.literal("list")
+                                        .executes(ctx -> listSnapshots(ctx, null))
+                                        .then(Commands.argument("team", StringArgumentType.word())
+                                                .suggests(BackpackCommand::suggestTeams)
+                                                .executes(ctx -> listSnapshots(ctx,
+                                                        StringArgumentType.getString(ctx, "team")))))
+                                .then(Commands.literal("take")
+                                        .executes(BackpackAdminCommand::takeSnapshot))
+                                .then(Commands.literal("restore")
+                                        .then(Commands.argument("id", IntegerArgumentType.integer(1))
+                                                .then(Commands.argument("team", StringArgumentType.word())
+                                                        .suggests(BackpackCommand::suggestTeams)
+                                                        .executes(BackpackAdminCommand::restoreSnapshot)))))));
     }
 
     private static int clearBanish(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
@@ -53,4 +77,93 @@ public class BackpackAdminCommand {
                 "§c" + target.getName().getString() + " hat aktuell keinen aktiven Lockdown."));
         return 0;
     }
+
+    private static int listSnapshots(CommandContext<CommandSourceStack> context, String teamName) {
+        BackpackSnapshotStore store = BackpackManager.getInstance().getSnapshots();
+        if (store == null) {
+            context.getSource().sendFailure(Component.literal("§cBackpack-Snapshots sind deaktiviert."));
+            return 0;
+        }
+
+        List<SnapshotRef> snapshots = store.list();
+        if (teamName != null) {
+            snapshots = snapshots.stream().filter(ref -> ref.teams().containsKey(teamName)).toList();
+        }
+        if (snapshots.isEmpty()) {
+            context.getSource().sendFailure(Component.literal("§cKeine Snapshots gefunden."));
+            return 0;
+        }
+
+        SimpleDateFormat format = new SimpleDateFormat("dd.MM. HH:mm");
+        StringBuilder message = new StringBuilder("§6Backpack-Snapshots (Runde " + store.getRound() + "):");
+        for (int i = 0; i < Math.min(SNAPSHOT_LIST_LIMIT, snapshots.size()); i++) {
+            SnapshotRef ref = snapshots.get(i);
+            message.append("\n§e#").append(ref.id())
+                    .append(" §7").append(format.format(new Date(ref.created())))
+                    .append(" §f").append(ref.reason())
+                    .append(" §7(Runde ").append(ref.round()).append(", ")
+                    .append(ref.teams().size()).append(" Teams)");
+            if (store.isArchived(ref)) {
+                message.append(" §8[archiviert]");
+            }
+            // Mark snapshots where this team's backpack differs from the previous one
+            if (teamName != null && i + 1 < snapshots.size()
+                    && !ref.teams().get(teamName).equals(snapshots.get(i + 1).teams().get(teamName))) {
+                message.append(" §a*");
+            }
+        }
+        if (snapshots.size() > SNAPSHOT_LIST_LIMIT) {
+            message.append("\n§7... und ").append(snapshots.size() - SNAPSHOT_LIST_LIMIT).append(" weitere");
+        }
+
+        String text = message.toString();
+        context.getSource().sendSuccess(() -> Component.literal(text), false);
+        return snapshots.size();
+    }
+
+    private static int takeSnapshot(CommandContext<CommandSourceStack> context) {
+        if (BackpackManager.getInstance().getSnapshots() == null) {
+            context.getSource().sendFailure(Component.literal("§cBackpack-Snapshots sind deaktiviert."));
+            return 0;
+        }
+
+        CommandSourceStack source = context.getSource();
+        MinecraftServer server = source.getServer();
+        BackpackManager.getInstance().takeSnapshot("manual", false).whenComplete((ref, error) -> server.execute(() -> {
+            if (error != null || ref == null) {
+                source.sendFailure(Component.literal("§cSnapshot fehlgeschlagen. Details im Server-Log."));
+            } else {
+                source.sendSuccess(() -> Component.literal("§aSnapshot §e#" + ref.id() + " §aerstellt."), true);
+            }
+        }));
+        return 1;
+    }
+
+    private static int restoreSnapshot(CommandContext<CommandSourceStack> context) {
+        int id = IntegerArgumentType.getInteger(context, "id");
+        String teamName = StringArgumentType.getString(context, "team");
+
+        if (BackpackManager.getInstance().getSnapshots() == null) {
+            context.getSource().sendFailure(Component.literal("§cBackpack-Snapshots sind deaktiviert."));
+            return 0;
+        }
+
+        CommandSourceStack source = context.getSource();
+        MinecraftServer server = source.getServer();
+        var restore = BackpackManager.getInstance().restoreSnapshot(id, teamName);
+        restore.whenComplete((restored, error) -> server.execute(() -> {
+            if (error != null) {
+                BingoBackpack.LOGGER.error("Failed to restore backpack snapshot " + id + " for team: " + teamName,
+                        error);
+                source.sendFailure(Component.literal("§cSnapshot konnte nicht gelesen werden."));
+            } else if (!restored) {
+                source.sendFailure(Component.literal(
+                        "§cSnapshot #" + id + " enthält kein Backpack von Team " + teamName + "."));
+            } else {
+                source.sendSuccess(() -> Component.literal("§aBackpack von Team §e" + teamName
+                        + " §aauf Snapshot §e#" + id + " §azurückgesetzt."), true);
+            }
+        }));
+        return 1;
+    }
 }
@@ -11,6 +11,7 @@ import de.yoshlix.bingobackpack.item.BingoItem;
 import de.yoshlix.bingobackpack.item.BingoItemManager;
 import de.yoshlix.bingobackpack.item.BingoItemRegistry;
 import de.yoshlix.bingobackpack.item.ItemRarity;
+import de.yoshlix.bingobackpack.storage.EncodedSlotCache;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.EntityArgument;
@@ -19,7 +20,6 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.item.component.CustomData;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -53,6 +53,28 @@ public class BackpackCommand {
                         .then(Commands.literal("status")
                                 .executes(BackpackCommand::mixinStatus)))
 
+                // /backpack perf [on|off|reset] - Per-hook tick cost (OP only)
+                .then(Commands.literal("perf")
+                        .requires(source -> Commands.hasPermission(Commands.LEVEL_GAMEMASTERS).test(source))
+                        .executes(BackpackCommand::showPerf)
+                        .then(Commands.literal("on")
+                                .executes(ctx -> setProfiler(ctx, true)))
+                        .then(Commands.literal("off")
+                                .executes(ctx -> setProfiler(ctx, false)))
+                        .then(Commands.literal("reset")
+                                .executes(BackpackCommand::resetPerf)))
+
+                // /backpack pregen [pause|resume|reset] - Lobby chunk pregeneration (OP only)
+                .then(Commands.literal("pregen")
+                        .requires(source -> Commands.hasPermission(Commands.LEVEL_GAMEMASTERS).test(source))
+                        .executes(BackpackCommand::showPregen)
+                        .then(Commands.literal("pause")
+                                .executes(ctx -> setPregenPaused(ctx, true)))
+                        .then(Commands.literal("resume")
+                                .executes(ctx -> setPregenPaused(ctx, false)))
+                        .then(Commands.literal("reset")
+                                .executes(BackpackCommand::resetPregen)))
+
                 // Team management commands (OP only)
                 .then(Commands.literal("team")
                         .requires(source -> Commands.hasPermission(Commands.LEVEL_GAMEMASTERS).test(source)) // OP level
@@ -185,7 +207,7 @@ public class BackpackCommand {
         return builder.buildFuture();
     }
 
-    private static CompletableFuture<Suggestions> suggestTeams(CommandContext<CommandSourceStack> context,
+    static CompletableFuture<Suggestions> suggestTeams(CommandContext<CommandSourceStack> context,
             SuggestionsBuilder builder) {
         Set<String> teams = TeamManager.getInstance().getAllTeams();
         for (String team : teams) {
@@ -226,11 +248,8 @@ public class BackpackCommand {
         ItemStack bundle = new ItemStack(Items.BUNDLE);
         bundle.set(DataComponents.CUSTOM_NAME, Component.literal("§6Team Backpack: §e" + teamName));
 
-        // Add custom NBT to identify it as a backpack item
-        net.minecraft.nbt.CompoundTag tag = new net.minecraft.nbt.CompoundTag();
-        tag.putBoolean("bingobackpack_item", true);
-        tag.putString("team", teamName);
-        bundle.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        // Mark it as this team's backpack
+        BingoCustomData.setBackpackTeam(bundle, teamName);
 
         // Give item to player
         if (!player.getInventory().add(bundle)) {
@@ -470,12 +489,101 @@ public class BackpackCommand {
                         "§7- Lobby Angel verbieten: " + (config.lobbyDisableFishingRod ? "§aEnabled" : "§cDisabled")
                         + "\n" +
                         "§7- Lobby Levitation verbieten: "
-                        + (config.lobbyDisableLevitationPotions ? "§aEnabled" : "§cDisabled")),
+                        + (config.lobbyDisableLevitationPotions ? "§aEnabled" : "§cDisabled") + "\n" +
+                        "§7- Backpack Storage: §e" + config.backpackStorageMode
+                        + " §7(Slot-Cache: §a" + EncodedSlotCache.getHits() + " §7Hits, §c"
+                        + EncodedSlotCache.getMisses() + " §7Misses)"),
                 false);
 
         return 1;
     }
 
+    private static int setProfiler(CommandContext<CommandSourceStack> ctx, boolean value) {
+        ModConfig.getInstance().hookProfilerEnabled = value;
+        ModConfig.save(net.fabricmc.loader.api.FabricLoader.getInstance().getConfigDir());
+        if (value && !HookProfiler.isEnabled()) {
+            HookProfiler.reset(ctx.getSource().getServer().getTickCount());
+        }
+        HookProfiler.setEnabled(value);
+
+        ctx.getSource().sendSuccess(() -> Component.literal(
+                "§aHook profiler " + (value ? "enabled" : "disabled")), true);
+        return 1;
+    }
+
+    private static int resetPerf(CommandContext<CommandSourceStack> ctx) {
+        HookProfiler.reset(ctx.getSource().getServer().getTickCount());
+        ctx.getSource().sendSuccess(() -> Component.literal("§aProfiler window reset."), false);
+        return 1;
+    }
+
+    private static int showPregen(CommandContext<CommandSourceStack> ctx) {
+        String text = String.join("\n", ChunkPregenerator.getInstance().describe());
+        ctx.getSource().sendSuccess(() -> Component.literal(text), false);
+        return 1;
+    }
+
+    private static int setPregenPaused(CommandContext<CommandSourceStack> ctx, boolean value) {
+        ChunkPregenerator.getInstance().setPaused(value);
+        ctx.getSource().sendSuccess(() -> Component.literal(
+                "§aPregeneration " + (value ? "paused" : "resumed")), true);
+        return 1;
+    }
+
+    private static int resetPregen(CommandContext<CommandSourceStack> ctx) {
+        ChunkPregenerator.getInstance().reset();
+        ctx.getSource().sendSuccess(() -> Component.literal("§aPregeneration progress reset."), true);
+        return 1;
+    }
+
+    private static int showPerf(CommandContext<CommandSourceStack> ctx) {
+        var stats = HookProfiler.snapshot();
+        if (stats.isEmpty()) {
+            ctx.getSource().sendSuccess(() -> Component.literal(HookProfiler.isEnabled()
+                    ? "§7No hook calls recorded yet."
+                    : "§7Hook profiler is off. Use §e/backpack perf on§7."), false);
+            return 0;
+        }
+
+        int ticks = Math.max(1, ctx.getSource().getServer().getTickCount() - HookProfiler.getResetTick());
+        StringBuilder message = new StringBuilder("§6Hook cost over " + ticks + " ticks"
+                + (HookProfiler.isEnabled() ? "" : " §c(paused)") + "§6:");
+        int shown = 0;
+        for (var s : stats) {
+            if (shown++ == 10)
+                break;
+            message.append("\n§e").append(s.name())
+                    .append(" §7").append(formatNanos(s.totalNanos() / ticks)).append("/tick, ")
+                    .append(s.calls()).append(" calls")
+                    .append("\n  §7p50 §f").append(formatNanos(s.nanos().p50()))
+                    .append(" §7p99 §f").append(formatNanos(s.nanos().p99()))
+                    .append(" §7max §f").append(formatNanos(s.nanos().max()));
+            if (HookProfiler.isAllocationTracked()) {
+                message.append(" §7| alloc p50 §f").append(formatBytes(s.bytes().p50()))
+                        .append(" §7p99 §f").append(formatBytes(s.bytes().p99()))
+                        .append(" §7max §f").append(formatBytes(s.bytes().max()));
+            }
+        }
+
+        String text = message.toString();
+        ctx.getSource().sendSuccess(() -> Component.literal(text), false);
+        return 1;
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000)
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        return String.format("%.1fµs", nanos / 1_000.0);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes >= 1024 * 1024)
+            return String.format("%.1fMB", bytes / (1024.0 * 1024.0));
+        if (bytes >= 1024)
+            return String.format("%.1fKB", bytes / 1024.0);
+        return bytes + "B";
+    }
+
     private static int setDropMultiplier(CommandContext<CommandSourceStack> ctx) {
         double multiplier = DoubleArgumentType.getDouble(ctx, "multiplier");
         ModConfig config = ModConfig.getInstance();
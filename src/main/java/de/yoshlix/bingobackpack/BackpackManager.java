@@ -1,11 +1,12 @@
 package de.yoshlix.bingobackpack;
 
 import de.yoshlix.bingobackpack.item.items.Lockdown;
-import net.minecraft.core.HolderLookup;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.NbtIo;
-import net.minecraft.nbt.NbtAccounter;
+import de.yoshlix.bingobackpack.storage.BackpackSnapshotStore;
+import de.yoshlix.bingobackpack.storage.BackpackSnapshotStore.SnapshotRef;
+import de.yoshlix.bingobackpack.storage.BackpackStorage;
+import de.yoshlix.bingobackpack.storage.JournaledBackpackStorage;
+import de.yoshlix.bingobackpack.storage.RegionBackpackStorage;
+import de.yoshlix.bingobackpack.storage.SnapshotBackpackStorage;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
@@ -20,17 +21,48 @@ import net.minecraft.world.level.storage.LevelResource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class BackpackManager {
     private static final String BACKPACKS_DIR = "bingobackpack";
-
-    // Map of team name to active container (for syncing between players)
-    private final Map<String, SimpleContainer> activeContainers = new HashMap<>();
+    // Key used in queuedOps for operations that affect every team (clearAllBackpacks)
+    private static final String ALL_TEAMS = "*";
+    // Key in queuedOps for snapshot work; it only reads backpacks, so loads need not wait for it
+    private static final String SNAPSHOTS = "#snapshots";
+    private static final String SNAPSHOTS_DIR = "snapshots";
+
+    // Map of team name to active container (for syncing between players), in LRU access order
+    private final Map<String, BackpackContainer> activeContainers = new LinkedHashMap<>(16, 0.75f, true);
+    // Teams whose backpack is being loaded on the I/O thread (server thread only)
+    private final Set<String> prefetching = new HashSet<>();
+
+    // Write-behind state: teams changed since the last flush (server thread only)
+    private final Set<String> dirtyTeams = new HashSet<>();
+    // Latest snapshot per team waiting for the I/O thread; a newer snapshot replaces an older one
+    private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    // Number of queued or running I/O operations per team
+    private final Map<String, Integer> queuedOps = new ConcurrentHashMap<>();
+    private ExecutorService ioExecutor;
+    private int flushTickCounter = 0;
+    private int snapshotTickCounter = 0;
 
     private Path dataDir;
     private MinecraftServer server;
+    private BackpackStorage storage;
+    private BackpackSnapshotStore snapshots;
 
     public void init(MinecraftServer server) {
         this.server = server;
@@ -40,6 +72,75 @@ public class BackpackManager {
         } catch (IOException e) {
             BingoBackpack.LOGGER.error("Failed to create backpack data directory", e);
         }
+        if (storage != null) {
+            drainIo();
+            try {
+                storage.close();
+            } catch (IOException e) {
+                BingoBackpack.LOGGER.error("Failed to close previous backpack storage", e);
+            }
+        }
+        this.storage = createStorage(ModConfig.getInstance().backpackStorageMode);
+        this.snapshots = null;
+        if (ModConfig.getInstance().backpackSnapshotsEnabled) {
+            try {
+                this.snapshots = new BackpackSnapshotStore(dataDir.resolve(SNAPSHOTS_DIR), server.registryAccess());
+            } catch (IOException e) {
+                BingoBackpack.LOGGER.error("Failed to open backpack snapshot store", e);
+            }
+        }
+        if (ioExecutor == null) {
+            ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "BingoBackpack-IO");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private BackpackStorage createStorage(String mode) {
+        ModConfig config = ModConfig.getInstance();
+        boolean compress = config.backpackFastCompression;
+        return switch (mode.toLowerCase()) {
+            case "journal" -> new JournaledBackpackStorage(dataDir, server.registryAccess(), compress,
+                    config.backpackJournalCompactThreshold);
+            case "region" -> {
+                try {
+                    yield new RegionBackpackStorage(dataDir, server.registryAccess(), compress,
+                            config.backpackRegionInitialSectors);
+                } catch (IOException e) {
+                    BingoBackpack.LOGGER.error("Failed to open backpack region file, using snapshot storage", e);
+                    yield new SnapshotBackpackStorage(dataDir, server.registryAccess(), compress);
+                }
+            }
+            case "snapshot" -> new SnapshotBackpackStorage(dataDir, server.registryAccess(), compress);
+            default -> {
+                BingoBackpack.LOGGER.warn("Unknown backpack storage mode '{}', using snapshot", mode);
+                yield new SnapshotBackpackStorage(dataDir, server.registryAccess(), compress);
+            }
+        };
+    }
+
+    /**
+     * Called every server tick. Flushes dirty backpacks to the I/O thread every
+     * backpackFlushIntervalTicks, so rapid slot changes are coalesced into one write.
+     */
+    public void tick(MinecraftServer server) {
+        int snapshotInterval = ModConfig.getInstance().backpackSnapshotIntervalTicks;
+        if (snapshots != null && snapshotInterval > 0 && ++snapshotTickCounter >= snapshotInterval) {
+            snapshotTickCounter = 0;
+            takeSnapshot("periodic", true);
+        }
+
+        if (dirtyTeams.isEmpty())
+            return;
+
+        flushTickCounter++;
+        if (flushTickCounter < ModConfig.getInstance().backpackFlushIntervalTicks)
+            return;
+        flushTickCounter = 0;
+
+        flushDirty();
     }
 
     public void openBackpack(ServerPlayer player, String teamName) {
@@ -63,138 +164,491 @@ public class BackpackManager {
 
     private SimpleContainer getOrCreateContainer(String teamName) {
         // Check if we have an active container
-        SimpleContainer container = activeContainers.get(teamName);
+        BackpackContainer container = activeContainers.get(teamName);
         if (container != null) {
             return container;
         }
 
-        // Create new container and load saved data
+        // Create new container and load saved data; a running prefetch is superseded
+        prefetching.remove(teamName);
         container = new BackpackContainer(ModConfig.getInstance().backpackSize, teamName);
+        awaitPendingIo(teamName);
         loadContainer(container, teamName);
+        // Loading fires setChanged for every slot; the data is already on disk
+        dirtyTeams.remove(teamName);
 
         activeContainers.put(teamName, container);
+        evictIdleContainers();
         return container;
     }
 
+    /**
+     * Load the given teams' backpacks on the I/O thread and install them on the
+     * server thread, so the first open of the round does not read from disk.
+     */
+    public void prefetch(Collection<String> teamNames) {
+        if (storage == null || ioExecutor == null || !ModConfig.getInstance().backpackPrefetchOnStart)
+            return;
+
+        int size = ModConfig.getInstance().backpackSize;
+        int max = ModConfig.getInstance().backpackMaxActiveContainers;
+        int scheduled = 0;
+        for (String teamName : teamNames) {
+            if (max > 0 && activeContainers.size() + prefetching.size() >= max)
+                break;
+            if (activeContainers.containsKey(teamName) || !prefetching.add(teamName))
+                continue;
+
+            submitIo(teamName, () -> {
+                try {
+                    ItemStack[] items = storage.load(teamName, size);
+                    server.execute(() -> installPrefetched(teamName, items));
+                } catch (IOException | RuntimeException e) {
+                    server.execute(() -> prefetching.remove(teamName));
+                    BingoBackpack.LOGGER.error("Failed to prefetch backpack for team: " + teamName, e);
+                }
+            });
+            scheduled++;
+        }
+
+        if (scheduled > 0) {
+            BingoBackpack.LOGGER.info("Prefetching {} backpacks", scheduled);
+        }
+    }
+
+    private void installPrefetched(String teamName, ItemStack[] items) {
+        // Skip if the backpack was opened, cleared or resized in the meantime
+        if (!prefetching.remove(teamName) || activeContainers.containsKey(teamName)
+                || items.length != ModConfig.getInstance().backpackSize)
+            return;
+
+        BackpackContainer container = new BackpackContainer(items.length, teamName);
+        fillContainer(container, items);
+        dirtyTeams.remove(teamName);
+        activeContainers.put(teamName, container);
+        evictIdleContainers();
+    }
+
+    /**
+     * Unload the least recently used backpacks beyond backpackMaxActiveContainers.
+     * Backpacks that a player has open are kept; evicted ones are saved first.
+     */
+    private void evictIdleContainers() {
+        int max = ModConfig.getInstance().backpackMaxActiveContainers;
+        if (max <= 0 || activeContainers.size() <= max)
+            return;
+
+        Set<Container> openContainers = new HashSet<>();
+        if (server != null) {
+            for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                if (player.containerMenu instanceof ChestMenu menu) {
+                    openContainers.add(menu.getContainer());
+                }
+            }
+        }
+
+        Iterator<Map.Entry<String, BackpackContainer>> iterator = activeContainers.entrySet().iterator();
+        while (activeContainers.size() > max && iterator.hasNext()) {
+            Map.Entry<String, BackpackContainer> entry = iterator.next();
+            if (openContainers.contains(entry.getValue()))
+                continue;
+
+            String teamName = entry.getKey();
+            BackpackContainer container = entry.getValue();
+            iterator.remove();
+            dirtyTeams.remove(teamName);
+
+            int[] changedSlots = container.collectChanges();
+            if (changedSlots.length > 0) {
+                if (ModConfig.getInstance().backpackWriteBehind && ioExecutor != null) {
+                    enqueueWrite(teamName, container.savedItems.clone(), changedSlots);
+                } else {
+                    awaitPendingIo(teamName);
+                    writeItems(teamName, container.savedItems.clone(), changedSlots);
+                }
+            }
+        }
+    }
+
     public void saveBackpack(String teamName) {
-        SimpleContainer container = activeContainers.get(teamName);
+        BackpackContainer container = activeContainers.get(teamName);
         if (container != null) {
-            saveContainer(container, teamName);
+            long start = HookProfiler.SAVE_BACKPACK.begin();
+            try {
+                dirtyTeams.remove(teamName);
+                awaitPendingIo(teamName);
+                saveContainer(container, teamName);
+            } finally {
+                HookProfiler.SAVE_BACKPACK.end(start);
+            }
+        }
+    }
+
+    /**
+     * Mark a team's backpack as changed. With write-behind enabled the save is
+     * deferred to the next flush, otherwise it is written immediately.
+     */
+    public void markDirty(String teamName) {
+        if (!ModConfig.getInstance().backpackWriteBehind || ioExecutor == null) {
+            saveBackpack(teamName);
+            return;
         }
+        dirtyTeams.add(teamName);
     }
 
     public void clearBackpack(String teamName) {
         activeContainers.remove(teamName);
-        Path backpackFile = dataDir.resolve(teamName + ".dat");
-        try {
-            Files.deleteIfExists(backpackFile);
-        } catch (IOException e) {
-            BingoBackpack.LOGGER.error("Failed to delete backpack file for team: " + teamName, e);
-        }
+        prefetching.remove(teamName);
+        dirtyTeams.remove(teamName);
+        pendingWrites.remove(teamName);
+        if (storage == null)
+            return;
+
+        submitIo(teamName, () -> {
+            try {
+                storage.delete(teamName);
+            } catch (IOException e) {
+                BingoBackpack.LOGGER.error("Failed to delete backpack file for team: " + teamName, e);
+            }
+        });
     }
 
     public void clearAllBackpacks() {
         activeContainers.clear();
-        try {
-            if (Files.exists(dataDir)) {
-                Files.list(dataDir)
-                        .filter(path -> path.toString().endsWith(".dat"))
-                        .forEach(path -> {
-                            try {
-                                Files.deleteIfExists(path);
-                            } catch (IOException e) {
-                                BingoBackpack.LOGGER.error("Failed to delete backpack file: " + path, e);
-                            }
-                        });
+        prefetching.clear();
+        dirtyTeams.clear();
+        pendingWrites.clear();
+        if (storage == null)
+            return;
+
+        submitIo(ALL_TEAMS, () -> {
+            try {
+                storage.deleteAll();
+            } catch (IOException e) {
+                BingoBackpack.LOGGER.error("Failed to clear all backpacks", e);
             }
-        } catch (IOException e) {
-            BingoBackpack.LOGGER.error("Failed to clear all backpacks", e);
+        });
+    }
+
+    /**
+     * Snapshot every team's backpack. Open backpacks are copied on the server
+     * thread, the rest are read and stored on the I/O thread. With skipUnchanged
+     * the future completes with null if nothing changed since the last snapshot.
+     */
+    public CompletableFuture<SnapshotRef> takeSnapshot(String reason, boolean skipUnchanged) {
+        CompletableFuture<SnapshotRef> result = new CompletableFuture<>();
+        BackpackSnapshotStore store = snapshots;
+        BackpackStorage source = storage;
+        if (store == null || source == null) {
+            result.complete(null);
+            return result;
+        }
+
+        // After the flush, savedItems of every active container matches its contents
+        flushDirty();
+        Map<String, ItemStack[]> backpacks = new TreeMap<>();
+        for (Map.Entry<String, BackpackContainer> entry : activeContainers.entrySet()) {
+            backpacks.put(entry.getKey(), entry.getValue().savedItems.clone());
         }
+        Set<String> unloaded = new TreeSet<>(TeamManager.getInstance().getAllTeams());
+        unloaded.removeAll(backpacks.keySet());
+        int size = ModConfig.getInstance().backpackSize;
+
+        submitIo(SNAPSHOTS, () -> {
+            try {
+                for (String teamName : unloaded) {
+                    backpacks.put(teamName, source.load(teamName, size));
+                }
+                result.complete(store.take(reason, backpacks, skipUnchanged));
+            } catch (IOException e) {
+                BingoBackpack.LOGGER.error("Failed to take backpack snapshot", e);
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
     }
 
-    private void saveContainer(Container container, String teamName) {
-        if (server == null || dataDir == null)
+    /**
+     * Snapshot all backpacks at the end of a round and archive old rounds.
+     */
+    public void onRoundEnd() {
+        BackpackSnapshotStore store = snapshots;
+        if (store == null)
             return;
 
+        takeSnapshot("round-end", false);
+        int hotRounds = ModConfig.getInstance().backpackSnapshotHotRounds;
+        int retainRounds = ModConfig.getInstance().backpackSnapshotRetentionRounds;
+        submitIo(SNAPSHOTS, () -> {
+            try {
+                store.endRound(hotRounds, retainRounds);
+            } catch (IOException e) {
+                BingoBackpack.LOGGER.error("Failed to archive backpack snapshots", e);
+            }
+        });
+    }
+
+    public BackpackSnapshotStore getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Replace a team's backpack with its contents from a snapshot. The snapshot
+     * is read on the I/O thread and installed on the server thread; a snapshot
+     * of the current state is taken first, so a restore can itself be undone.
+     * Completes with false if the snapshot does not contain the team.
+     */
+    public CompletableFuture<Boolean> restoreSnapshot(int snapshotId, String teamName) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        BackpackSnapshotStore store = snapshots;
+        if (store == null) {
+            result.complete(false);
+            return result;
+        }
+
+        int size = ModConfig.getInstance().backpackSize;
+        submitIo(SNAPSHOTS, () -> {
+            ItemStack[] items;
+            try {
+                items = store.load(snapshotId, teamName, size);
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            server.execute(() -> {
+                try {
+                    result.complete(items != null && installSnapshot(teamName, items));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        });
+        return result;
+    }
+
+    private boolean installSnapshot(String teamName, ItemStack[] items) {
+        int size = ModConfig.getInstance().backpackSize;
+        if (items.length != size)
+            return false;
+
+        takeSnapshot("pre-restore", false);
+        SimpleContainer container = getOrCreateContainer(teamName);
+        for (int slot = 0; slot < size; slot++) {
+            container.setItem(slot, items[slot]);
+        }
+        return true;
+    }
+
+    /**
+     * Collect the changed slots of every dirty container on the server thread
+     * and hand the copies to the I/O thread for encoding and writing.
+     */
+    private void flushDirty() {
+        long start = HookProfiler.SAVE_FLUSH.begin();
         try {
-            CompoundTag rootTag = new CompoundTag();
-            ListTag listTag = new ListTag();
-            HolderLookup.Provider registries = server.registryAccess();
-
-            for (int i = 0; i < container.getContainerSize(); i++) {
-                ItemStack stack = container.getItem(i);
-                if (!stack.isEmpty()) {
-                    CompoundTag itemTag = new CompoundTag();
-                    itemTag.putInt("Slot", i);
-                    CompoundTag itemData = (CompoundTag) ItemStack.OPTIONAL_CODEC
-                            .encodeStart(registries.createSerializationContext(net.minecraft.nbt.NbtOps.INSTANCE),
-                                    stack)
-                            .getOrThrow();
-                    itemTag.put("Item", itemData);
-                    listTag.add(itemTag);
+            for (String teamName : dirtyTeams) {
+                BackpackContainer container = activeContainers.get(teamName);
+                if (container != null) {
+                    int[] changedSlots = container.collectChanges();
+                    if (changedSlots.length > 0) {
+                        enqueueWrite(teamName, container.savedItems.clone(), changedSlots);
+                    }
                 }
             }
+            dirtyTeams.clear();
+        } finally {
+            HookProfiler.SAVE_FLUSH.end(start);
+        }
+    }
 
-            rootTag.put("Items", listTag);
+    private void enqueueWrite(String teamName, ItemStack[] items, int[] changedSlots) {
+        // Only schedule a task if none is queued yet; a queued task always picks up the latest snapshot
+        boolean[] scheduled = { false };
+        pendingWrites.compute(teamName, (key, previous) -> {
+            if (previous == null) {
+                scheduled[0] = true;
+                return new PendingWrite(items, changedSlots);
+            }
+            return previous.supersededBy(items, changedSlots);
+        });
+
+        if (scheduled[0]) {
+            submitIo(teamName, () -> {
+                PendingWrite latest = pendingWrites.remove(teamName);
+                if (latest != null) {
+                    writeItems(teamName, latest.items(), latest.changedSlots());
+                }
+            });
+        }
+    }
 
-            Path backpackFile = dataDir.resolve(teamName + ".dat");
-            NbtIo.writeCompressed(rootTag, backpackFile);
-        } catch (IOException e) {
-            BingoBackpack.LOGGER.error("Failed to save backpack for team: " + teamName, e);
+    private void submitIo(String key, Runnable operation) {
+        if (ioExecutor == null) {
+            operation.run();
+            return;
+        }
+
+        queuedOps.merge(key, 1, Integer::sum);
+        ioExecutor.execute(() -> {
+            try {
+                operation.run();
+            } catch (Exception e) {
+                BingoBackpack.LOGGER.error("Backpack I/O operation failed for {}", key, e);
+            } finally {
+                queuedOps.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+            }
+        });
+    }
+
+    /**
+     * Block until queued writes or deletes for this team have finished, so a
+     * load never observes a half-written or about-to-be-deleted file.
+     */
+    private void awaitPendingIo(String teamName) {
+        if (queuedOps.containsKey(teamName) || queuedOps.containsKey(ALL_TEAMS)) {
+            drainIo();
         }
     }
 
-    private void loadContainer(Container container, String teamName) {
-        if (server == null || dataDir == null)
+    private void drainIo() {
+        if (ioExecutor == null)
             return;
+        try {
+            // The executor is single-threaded, so a no-op completes after everything queued before it
+            ioExecutor.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            BingoBackpack.LOGGER.error("Failed to drain backpack I/O queue", e);
+        }
+    }
+
+    private void saveContainer(BackpackContainer container, String teamName) {
+        int[] changedSlots = container.collectChanges();
+        if (changedSlots.length > 0) {
+            writeItems(teamName, container.savedItems.clone(), changedSlots);
+        }
+    }
 
-        Path backpackFile = dataDir.resolve(teamName + ".dat");
-        if (!Files.exists(backpackFile))
+    private void writeItems(String teamName, ItemStack[] items, int[] changedSlots) {
+        if (storage == null)
             return;
 
+        long start = HookProfiler.SAVE_WRITE.begin();
         try {
-            CompoundTag rootTag = NbtIo.readCompressed(backpackFile, NbtAccounter.unlimitedHeap());
-            ListTag listTag = rootTag.getList("Items").orElse(new ListTag());
-            HolderLookup.Provider registries = server.registryAccess();
-
-            for (int i = 0; i < listTag.size(); i++) {
-                listTag.getCompound(i).ifPresent(itemTag -> {
-                    int slot = itemTag.getInt("Slot").orElse(-1);
-                    if (slot >= 0 && slot < container.getContainerSize()) {
-                        itemTag.getCompound("Item").ifPresent(itemCompound -> {
-                            ItemStack stack = ItemStack.OPTIONAL_CODEC
-                                    .parse(registries.createSerializationContext(net.minecraft.nbt.NbtOps.INSTANCE),
-                                            itemCompound)
-                                    .result().orElse(ItemStack.EMPTY);
-                            container.setItem(slot, stack);
-                        });
-                    }
-                });
-            }
+            storage.write(teamName, items, changedSlots);
         } catch (IOException e) {
+            BingoBackpack.LOGGER.error("Failed to save backpack for team: " + teamName, e);
+        } finally {
+            HookProfiler.SAVE_WRITE.end(start);
+        }
+    }
+
+    private void loadContainer(BackpackContainer container, String teamName) {
+        if (storage == null)
+            return;
+
+        try {
+            fillContainer(container, storage.load(teamName, container.getContainerSize()));
+        } catch (IOException | RuntimeException e) {
             BingoBackpack.LOGGER.error("Failed to load backpack for team: " + teamName, e);
         }
     }
 
+    private void fillContainer(BackpackContainer container, ItemStack[] items) {
+        for (int slot = 0; slot < items.length; slot++) {
+            if (!items[slot].isEmpty()) {
+                container.setItem(slot, items[slot].copy());
+                // Keep the decoded instance so the storage's slot cache recognises it
+                container.savedItems[slot] = items[slot];
+            }
+        }
+    }
+
+    /**
+     * Flush every dirty backpack and wait until the I/O thread has written all
+     * of them. Called on server stop.
+     */
     public void saveAll() {
-        for (Map.Entry<String, SimpleContainer> entry : activeContainers.entrySet()) {
-            saveContainer(entry.getValue(), entry.getKey());
+        long start = HookProfiler.SAVE_ALL.begin();
+        try {
+            if (ioExecutor == null) {
+                for (Map.Entry<String, BackpackContainer> entry : activeContainers.entrySet()) {
+                    saveContainer(entry.getValue(), entry.getKey());
+                }
+                return;
+            }
+
+            flushDirty();
+            flushTickCounter = 0;
+            drainIo();
+        } finally {
+            HookProfiler.SAVE_ALL.end(start);
+        }
+    }
+
+    /**
+     * A queued write. When a newer snapshot arrives before the write ran, the
+     * changed slots of both are merged so journaled storage sees every change.
+     */
+    private record PendingWrite(ItemStack[] items, int[] changedSlots) {
+        PendingWrite supersededBy(ItemStack[] newItems, int[] newChangedSlots) {
+            boolean[] changed = new boolean[newItems.length];
+            for (int slot : changedSlots) {
+                if (slot < changed.length) {
+                    changed[slot] = true;
+                }
+            }
+            for (int slot : newChangedSlots) {
+                changed[slot] = true;
+            }
+
+            int[] merged = new int[newItems.length];
+            int count = 0;
+            for (int slot = 0; slot < changed.length; slot++) {
+                if (changed[slot]) {
+                    merged[count++] = slot;
+                }
+            }
+            return new PendingWrite(newItems, Arrays.copyOf(merged, count));
         }
     }
 
-    // Inner class for backpack container that auto-saves on changes
+    // Inner class for backpack container that marks itself dirty on changes
     private class BackpackContainer extends SimpleContainer {
         private final String teamName;
+        // Copies of the slots as last handed to storage; never mutated, only replaced
+        private final ItemStack[] savedItems;
 
         public BackpackContainer(int size, String teamName) {
             super(size);
             this.teamName = teamName;
+            this.savedItems = new ItemStack[size];
+            Arrays.fill(savedItems, ItemStack.EMPTY);
         }
 
         @Override
         public void setChanged() {
             super.setChanged();
-            saveBackpack(teamName);
+            markDirty(teamName);
+        }
+
+        /**
+         * Compare every slot with the last saved copy, update the copies and
+         * return the indices of the slots that changed.
+         */
+        int[] collectChanges() {
+            int[] changed = new int[savedItems.length];
+            int count = 0;
+            for (int slot = 0; slot < savedItems.length; slot++) {
+                ItemStack current = getItem(slot);
+                if (!ItemStack.matches(current, savedItems[slot])) {
+                    savedItems[slot] = current.copy();
+                    changed[count++] = slot;
+                }
+            }
+            return Arrays.copyOf(changed, count);
         }
     }
 
@@ -5,17 +5,17 @@ import de.yoshlix.bingobackpack.item.BingoItemCreativeTab;
 import de.yoshlix.bingobackpack.item.BingoItemManager;
 import de.yoshlix.bingobackpack.item.BingoItemRegistry;
 import de.yoshlix.bingobackpack.item.BingoRewardSystem;
-import de.yoshlix.bingobackpack.item.items.Flight1Min;
-import de.yoshlix.bingobackpack.item.items.Flight5Min;
-import de.yoshlix.bingobackpack.item.items.Flight15Min;
-import de.yoshlix.bingobackpack.item.items.MobPheromone;
-import de.yoshlix.bingobackpack.item.items.Paranoia;
-import de.yoshlix.bingobackpack.item.items.TeamShield;
-import de.yoshlix.bingobackpack.item.items.TimeoutPlayer;
+import de.yoshlix.bingobackpack.item.EffectScheduler;
+import de.yoshlix.bingobackpack.item.BiomeRaster;
+import de.yoshlix.bingobackpack.item.BiomeSearchService;
+import de.yoshlix.bingobackpack.item.TeleportDestinationPool;
+import de.yoshlix.bingobackpack.item.TeleportPipeline;
+import de.yoshlix.bingobackpack.jfr.JfrSettings;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
 import net.fabricmc.loader.api.FabricLoader;
 
 import org.slf4j.Logger;
@@ -31,6 +31,7 @@ public class BingoBackpack implements ModInitializer {
 
 		// Load config
 		ModConfig.load(FabricLoader.getInstance().getConfigDir());
+		JfrSettings.export(FabricLoader.getInstance().getConfigDir());
 
 		// Initialize Bingo Item Registry and Creative Tab
 		BingoItemRegistry.init();
@@ -39,6 +40,7 @@ public class BingoBackpack implements ModInitializer {
 		// Apply config to BingoItemManager
 		BingoItemManager.getInstance().setDropsEnabled(ModConfig.getInstance().bingoItemsEnabled);
 		BingoItemManager.getInstance().setGlobalDropChanceMultiplier(ModConfig.getInstance().bingoItemsDropMultiplier);
+		HookProfiler.setEnabled(ModConfig.getInstance().hookProfilerEnabled);
 
 		// Register commands
 		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
@@ -53,6 +55,16 @@ public class BingoBackpack implements ModInitializer {
 		// Register lobby restrictions (fishing rod & levitation potions)
 		LobbyRestrictions.register();
 
+		// Refund teleports that failed while their player was offline
+		TeleportPipeline.register();
+
+		// Drop pooled teleport destinations whose blocks were broken
+		PlayerBlockBreakEvents.AFTER.register((world, player, pos, state, blockEntity) -> {
+			if (!world.isClientSide()) {
+				TeleportDestinationPool.getInstance().invalidate(world, pos);
+			}
+		});
+
 		// Initialize managers when server starts
 		ServerLifecycleEvents.SERVER_STARTED.register(server -> {
 			TeamManager.getInstance().init(server);
@@ -62,35 +74,53 @@ public class BingoBackpack implements ModInitializer {
 			de.yoshlix.bingobackpack.banish.BanishManager.getInstance().init(server);
 			BingoRewardSystem.getInstance().init(server);
 			DiscordService.getInstance().init(server);
+			ChunkPregenerator.getInstance().init(server);
+			BiomeRaster.getInstance().init(server);
 			LOGGER.info("BingoBackpack initialized!");
 		});
 
 		// Save data when server stops
 		ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
 			BackpackManager.getInstance().saveAll();
+			TeamManager.getInstance().flush(true);
 			DiscordService.getInstance().stop();
+			TeleportDestinationPool.getInstance().clear();
+			ChunkPregenerator.getInstance().save();
+			BiomeRaster.getInstance().clear();
+			BiomeSearchService.getInstance().clear();
 			LOGGER.info("BingoBackpack data saved!");
 		});
 
 		// bingo integration
 		ServerTickEvents.END_SERVER_TICK.register(server -> {
+			long start = HookProfiler.TICK_INTEGRATION.begin();
 			BingoIntegration.getInstance().tick(server);
+			HookProfiler.TICK_INTEGRATION.end(start);
+
+			start = HookProfiler.TICK_REWARDS.begin();
 			BingoRewardSystem.getInstance().tick(server);
+			HookProfiler.TICK_REWARDS.end(start);
+
+			start = HookProfiler.TICK_BACKPACKS.begin();
+			BackpackManager.getInstance().tick(server);
+			HookProfiler.TICK_BACKPACKS.end(start);
 
-			// Flight expiry checks
-			Flight1Min.tickFlightExpiry(server);
-			Flight5Min.tickFlightExpiry(server);
-			Flight15Min.tickFlightExpiry(server);
+			start = HookProfiler.TICK_TEAMS.begin();
+			TeamManager.getInstance().tick();
+			HookProfiler.TICK_TEAMS.end(start);
 
-			// Timeout expiry check
-			TimeoutPlayer.tickTimeoutExpiry(server);
+			// Timed item effects (flight, timeout, shield, pheromones, paranoia)
+			start = HookProfiler.TICK_SCHEDULER.begin();
+			EffectScheduler.getInstance().tick(server);
+			HookProfiler.TICK_SCHEDULER.end(start);
 
-			// Team Shield expiry check
-			TeamShield.tickShieldExpiry(server);
+			start = HookProfiler.TICK_TELEPORT_POOL.begin();
+			TeleportDestinationPool.getInstance().tick(server);
+			HookProfiler.TICK_TELEPORT_POOL.end(start);
 
-			// Mob Pheromone spawning
-			MobPheromone.tickPheromoneEffects(server);
-			Paranoia.tickParanoiaEffects(server);
+			start = HookProfiler.TICK_PREGEN.begin();
+			ChunkPregenerator.getInstance().tick(server);
+			HookProfiler.TICK_PREGEN.end(start);
 		});
 	}
 }
@@ -0,0 +1,65 @@
+package de.yoshlix.bingobackpack;
+
+import de.yoshlix.bingobackpack.item.BingoItem;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.CustomData;
+
+/**
+ * Custom data tags identifying Bingo Items ("BingoItemId" on paper) and team
+ * backpack bundles ("bingobackpack_item"/"team"). The tags stay in vanilla
+ * CUSTOM_DATA so unmodded clients can join; lookups read the stored tag in
+ * place instead of copying it on every check.
+ */
+public class BingoCustomData {
+    private static final String BACKPACK_KEY = "bingobackpack_item";
+    private static final String TEAM_KEY = "team";
+
+    private BingoCustomData() {
+    }
+
+    /**
+     * Id of the Bingo Item a stack represents, or null.
+     */
+    public static String getBingoItemId(ItemStack stack) {
+        CompoundTag tag = readTag(stack);
+        return tag == null ? null : tag.getString(BingoItem.NBT_KEY).orElse(null);
+    }
+
+    public static void setBingoItemId(ItemStack stack, String id) {
+        CompoundTag tag = new CompoundTag();
+        tag.putString(BingoItem.NBT_KEY, id);
+        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+    }
+
+    /**
+     * Team whose backpack a bundle opens, an empty string for a backpack
+     * bundle without a team, or null if the stack is no backpack bundle.
+     */
+    public static String getBackpackTeam(ItemStack stack) {
+        CompoundTag tag = readTag(stack);
+        if (tag == null || !tag.getBoolean(BACKPACK_KEY).orElse(false))
+            return null;
+        return tag.getString(TEAM_KEY).orElse("");
+    }
+
+    public static void setBackpackTeam(ItemStack stack, String teamName) {
+        CompoundTag tag = new CompoundTag();
+        tag.putBoolean(BACKPACK_KEY, true);
+        tag.putString(TEAM_KEY, teamName);
+        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+    }
+
+    /**
+     * The stack's custom data tag without copying it; callers must not modify
+     * it.
+     */
+    @SuppressWarnings("deprecation")
+    private static CompoundTag readTag(ItemStack stack) {
+        if (stack.isEmpty())
+            return null;
+        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
+        return customData == null ? null : customData.getUnsafe();
+    }
+}
@@ -6,13 +6,14 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.scores.PlayerTeam;
 import net.minecraft.world.scores.Scoreboard;
 
 import java.util.*;
 
+import de.yoshlix.bingobackpack.item.BingoReadModel;
 import de.yoshlix.bingobackpack.item.TemporaryItemStateManager;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import me.jfenn.bingo.api.BingoApi;
 import me.jfenn.bingo.api.data.BingoGameStatus;
 
@@ -20,10 +21,27 @@ import me.jfenn.bingo.api.data.BingoGameStatus;
  * Integration with Bingo mods that use Minecraft's scoreboard teams.
  * This will automatically sync scoreboard teams to backpack teams
  * and give players their backpack bundle when they join a team.
+ *
+ * Scoreboard changes are captured by ServerScoreboardMixin into a change queue
+ * and applied one by one every tick. The full scan in syncScoreboardTeams only
+ * runs on startup, on request and as a periodic consistency check.
  */
 public class BingoIntegration {
     private static BingoIntegration instance;
 
+    private enum ChangeType {
+        PLAYER_ADDED, PLAYER_REMOVED, TEAM_ADDED, TEAM_REMOVED, PLAYER_JOINED, PLAYER_LEFT
+    }
+
+    // team is null for PLAYER_JOINED/PLAYER_LEFT, player is null for team changes
+    private record TeamChange(ChangeType type, String team, String player, UUID playerId) {
+    }
+
+    private final ArrayDeque<TeamChange> pendingChanges = new ArrayDeque<>();
+    private boolean fullSyncRequested = true;
+    private boolean eventsRegistered = false;
+    private int fullSyncCounter = 0;
+
     private MinecraftServer server;
     private boolean enabled = true;
     private boolean backpackGiven = false;
@@ -48,9 +66,58 @@ public class BingoIntegration {
     public void init(MinecraftServer server) {
         this.server = server;
         this.playersWithBackpack.clear();
+        this.pendingChanges.clear();
+        this.fullSyncRequested = true;
+
+        if (!eventsRegistered) {
+            ServerPlayConnectionEvents.JOIN.register((handler, sender, srv) -> {
+                ServerPlayer player = handler.getPlayer();
+                enqueue(new TeamChange(ChangeType.PLAYER_JOINED, null,
+                        player.getScoreboardName(), player.getUUID()));
+            });
+            ServerPlayConnectionEvents.DISCONNECT.register((handler, srv) -> {
+                ServerPlayer player = handler.getPlayer();
+                enqueue(new TeamChange(ChangeType.PLAYER_LEFT, null,
+                        player.getScoreboardName(), player.getUUID()));
+            });
+            eventsRegistered = true;
+        }
+    }
+
+    // ========================================
+    // Scoreboard hooks (ServerScoreboardMixin)
+    // ========================================
+
+    public void onScoreboardPlayerAdded(String playerName, String teamName) {
+        enqueue(new TeamChange(ChangeType.PLAYER_ADDED, teamName, playerName, null));
+    }
+
+    public void onScoreboardPlayerRemoved(String playerName, String teamName) {
+        enqueue(new TeamChange(ChangeType.PLAYER_REMOVED, teamName, playerName, null));
+    }
+
+    public void onScoreboardTeamAdded(String teamName) {
+        enqueue(new TeamChange(ChangeType.TEAM_ADDED, teamName, null, null));
+    }
+
+    public void onScoreboardTeamRemoved(String teamName) {
+        enqueue(new TeamChange(ChangeType.TEAM_REMOVED, teamName, null, null));
+    }
+
+    private void enqueue(TeamChange change) {
+        // Team membership or online players changed
+        BingoReadModel.invalidate();
+
+        // While disabled nothing is applied; re-enabling runs a full scan instead
+        if (enabled) {
+            pendingChanges.add(change);
+        }
     }
 
     public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            fullSyncRequested = true;
+        }
         this.enabled = enabled;
     }
 
@@ -65,13 +132,20 @@ public class BingoIntegration {
         if (!enabled || server == null)
             return;
 
+        fullSyncCounter++;
+        if (fullSyncRequested || fullSyncCounter >= ModConfig.getInstance().bingoTeamFullSyncTicks) {
+            // The scan reflects every queued change
+            pendingChanges.clear();
+            syncScoreboardTeams();
+        } else {
+            applyPendingChanges();
+        }
+
         tickCounter++;
         if (tickCounter < ModConfig.getInstance().bingoCheckIntervalTicks)
             return;
         tickCounter = 0;
 
-        syncScoreboardTeams();
-
         var game = BingoApi.getGame();
         if (game == null || game.getStatus() == null) {
             return;
@@ -120,18 +194,105 @@ public class BingoIntegration {
             TemporaryItemStateManager.clearForRoundReset(server);
         }
 
+        if (currentStatus == BingoGameStatus.PLAYING) {
+            BackpackManager.getInstance().prefetch(TeamManager.getInstance().getAllTeams());
+        }
+
         if (previousStatus == BingoGameStatus.PLAYING && currentStatus == BingoGameStatus.POSTGAME) {
             DiscordService.getInstance().onRoundEnd();
+            BackpackManager.getInstance().onRoundEnd();
         }
     }
 
     /**
-     * Sync Minecraft scoreboard teams with backpack teams
+     * Apply queued scoreboard changes now instead of on the next tick.
+     */
+    public void applyTeamChanges() {
+        BingoReadModel.invalidate();
+        if (server == null || !enabled)
+            return;
+        applyPendingChanges();
+    }
+
+    private void applyPendingChanges() {
+        TeamChange change;
+        while ((change = pendingChanges.poll()) != null) {
+            switch (change.type()) {
+                case PLAYER_ADDED -> {
+                    ServerPlayer player = server.getPlayerList().getPlayerByName(change.player());
+                    if (player != null) {
+                        addToBackpackTeam(change.team(), player.getUUID());
+                    }
+                }
+                case PLAYER_REMOVED -> {
+                    // Offline players are already out of their backpack team
+                    ServerPlayer player = server.getPlayerList().getPlayerByName(change.player());
+                    if (player != null) {
+                        removeFromBackpackTeam(change.team(), player.getUUID());
+                    }
+                }
+                case TEAM_ADDED -> ensureBackpackTeam(change.team());
+                case TEAM_REMOVED -> deleteBackpackTeam(change.team());
+                case PLAYER_JOINED -> {
+                    PlayerTeam team = server.getScoreboard().getPlayersTeam(change.player());
+                    if (team != null) {
+                        addToBackpackTeam(team.getName(), change.playerId());
+                    }
+                }
+                case PLAYER_LEFT -> {
+                    // Mirrors the full scan, which only counts online players
+                    String team = TeamManager.getInstance().getPlayerTeam(change.playerId());
+                    if (team != null) {
+                        removeFromBackpackTeam(team, change.playerId());
+                    }
+                }
+            }
+        }
+    }
+
+    private void ensureBackpackTeam(String teamName) {
+        if (!TeamManager.getInstance().teamExists(teamName)) {
+            TeamManager.getInstance().createTeam(teamName);
+            BingoBackpack.LOGGER.info("Created backpack team from scoreboard: {}", teamName);
+        }
+    }
+
+    private void addToBackpackTeam(String teamName, UUID playerUUID) {
+        ensureBackpackTeam(teamName);
+
+        String currentBackpackTeam = TeamManager.getInstance().getPlayerTeam(playerUUID);
+        if (!teamName.equals(currentBackpackTeam)) {
+            TeamManager.getInstance().addPlayerToTeam(teamName, playerUUID);
+            BingoBackpack.LOGGER.info("Added {} to backpack team {} from scoreboard", playerUUID, teamName);
+        }
+        playersWithBackpack.put(playerUUID, teamName);
+    }
+
+    private void removeFromBackpackTeam(String teamName, UUID playerUUID) {
+        if (teamName.equals(TeamManager.getInstance().getPlayerTeam(playerUUID))) {
+            TeamManager.getInstance().removePlayerFromTeam(teamName, playerUUID);
+            playersWithBackpack.remove(playerUUID);
+        }
+    }
+
+    private void deleteBackpackTeam(String teamName) {
+        if (TeamManager.getInstance().teamExists(teamName)) {
+            TeamManager.getInstance().deleteTeam(teamName);
+            BackpackManager.getInstance().clearBackpack(teamName);
+            playersWithBackpack.entrySet().removeIf(entry -> teamName.equals(entry.getValue()));
+        }
+    }
+
+    /**
+     * Sync Minecraft scoreboard teams with backpack teams (full scan)
      */
     private void syncScoreboardTeams() {
         if (server == null)
             return;
 
+        fullSyncRequested = false;
+        fullSyncCounter = 0;
+
         Scoreboard scoreboard = server.getScoreboard();
         Collection<PlayerTeam> scoreboardTeams = scoreboard.getPlayerTeams();
 
@@ -212,11 +373,8 @@ public class BingoIntegration {
         ItemStack bundle = new ItemStack(Items.BUNDLE);
         bundle.set(DataComponents.CUSTOM_NAME, Component.literal("§6Team Backpack: §e" + teamName));
 
-        // Add custom NBT to identify it as a backpack item
-        net.minecraft.nbt.CompoundTag tag = new net.minecraft.nbt.CompoundTag();
-        tag.putBoolean("bingobackpack_item", true);
-        tag.putString("team", teamName);
-        bundle.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        // Mark it as this team's backpack
+        BingoCustomData.setBackpackTeam(bundle, teamName);
 
         // Give item to player
         if (!player.getInventory().add(bundle)) {
@@ -243,16 +401,10 @@ public class BingoIntegration {
         if (stack.isEmpty() || !stack.is(Items.BUNDLE))
             return false;
 
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData != null) {
-            net.minecraft.nbt.CompoundTag tag = customData.copyTag();
-            if (tag.contains("bingobackpack_item") && tag.getBoolean("bingobackpack_item").orElse(false)) {
-                if (teamName == null)
-                    return true;
-                return teamName.equals(tag.getString("team").orElse(""));
-            }
-        }
-        return false;
+        String team = BingoCustomData.getBackpackTeam(stack);
+        if (team == null)
+            return false;
+        return teamName == null || teamName.equals(team);
     }
 
     /**
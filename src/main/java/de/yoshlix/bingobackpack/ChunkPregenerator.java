@@ -0,0 +1,369 @@
+package de.yoshlix.bingobackpack;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import me.jfenn.bingo.api.BingoApi;
+import me.jfenn.bingo.api.data.BingoGameStatus;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Generates the chunks players are sent to in the first minutes of a round
+ * while the Bingo game is still in the lobby (PREGAME):
+ * - the spawn area in the overworld
+ * - the random teleport distance band around spawn, every pregenBandStride-th
+ * chunk (the chunks in between get the early generation stages on the way)
+ * - the nether area below spawn (NetherTeleport divides by 8)
+ * - the End teleport platform
+ *
+ * Regions are walked in square rings from the inside out. At most
+ * pregenMaxInFlight chunks are requested at a time, and nothing new is
+ * requested while the average tick is above pregenMaxMspt. Progress is saved
+ * to the world folder and resumed after a restart; it starts over when the
+ * regions change (spawn or config).
+ */
+public class ChunkPregenerator {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String PROGRESS_FILE = "bingobackpack_pregen.json";
+    private static final int SAVE_INTERVAL_TICKS = 200;
+    // Chunks skipped per tick because they are already loaded
+    private static final int MAX_SKIPS_PER_TICK = 256;
+
+    private static ChunkPregenerator instance;
+
+    private Path dataPath;
+    private Progress progress = new Progress();
+    private List<Region> regions;
+    private final List<Cursor> cursors = new ArrayList<>();
+    private int current = 0;
+    private boolean paused = false;
+    private boolean throttled = false;
+    private boolean inLobby = false;
+    private int inFlight = 0;
+    private int ticksSinceSave = 0;
+    private long generatedThisSession = 0;
+
+    /**
+     * Square rings around a center chunk, from inner to outer radius (in
+     * chunks, inclusive), keeping every stride-th chunk on both axes.
+     */
+    private record Region(String name, ResourceKey<Level> dimension, int centerX, int centerZ, int inner, int outer,
+            int stride) {
+    }
+
+    /**
+     * Saved state: resume index per region, valid for the given regions only.
+     */
+    private static final class Progress {
+        String regions = "";
+        Map<String, Integer> done = new HashMap<>();
+    }
+
+    /**
+     * Walks one region in ring order and remembers which chunks are still
+     * being generated.
+     */
+    private static final class Cursor {
+        private final Region region;
+        private final int total;
+        private final TreeSet<Integer> outstanding = new TreeSet<>();
+        private int ring;
+        private int step = 0;
+        private int issued = 0;
+        private int completed = 0;
+
+        private Cursor(Region region, int total) {
+            this.region = region;
+            this.ring = region.inner();
+            this.total = total;
+        }
+
+        /**
+         * Cursor positioned after the first resumeAt chunks, which count as done.
+         */
+        private static Cursor resume(Region region, int resumeAt) {
+            Cursor counter = new Cursor(region, 0);
+            int total = 0;
+            while (counter.nextChunk() != null) {
+                total++;
+            }
+
+            Cursor cursor = new Cursor(region, total);
+            while (cursor.issued < resumeAt && cursor.nextChunk() != null) {
+                cursor.issued++;
+            }
+            cursor.completed = cursor.issued;
+            return cursor;
+        }
+
+        /**
+         * Next chunk of the region as {x, z}, or null when done. Does not count
+         * it as issued.
+         */
+        private int[] nextChunk() {
+            while (ring <= region.outer()) {
+                int perimeter = ring == 0 ? 1 : 8 * ring;
+                while (step < perimeter) {
+                    int k = step++;
+                    int dx;
+                    int dz;
+                    if (ring == 0) {
+                        dx = 0;
+                        dz = 0;
+                    } else if (k < 2 * ring + 1) {
+                        dx = -ring + k;
+                        dz = -ring;
+                    } else if (k < 4 * ring + 2) {
+                        dx = -ring + k - (2 * ring + 1);
+                        dz = ring;
+                    } else if (k < 6 * ring + 1) {
+                        dx = -ring;
+                        dz = -ring + 1 + k - (4 * ring + 2);
+                    } else {
+                        dx = ring;
+                        dz = -ring + 1 + k - (6 * ring + 1);
+                    }
+                    if (Math.floorMod(dx, region.stride()) == 0 && Math.floorMod(dz, region.stride()) == 0) {
+                        return new int[] { region.centerX() + dx, region.centerZ() + dz };
+                    }
+                }
+                ring++;
+                step = 0;
+            }
+            return null;
+        }
+
+        /**
+         * Index to resume from: everything before it is generated.
+         */
+        private int resumeIndex() {
+            return outstanding.isEmpty() ? issued : outstanding.first();
+        }
+
+        private boolean isDone() {
+            return completed >= total;
+        }
+    }
+
+    public static ChunkPregenerator getInstance() {
+        if (instance == null) {
+            instance = new ChunkPregenerator();
+        }
+        return instance;
+    }
+
+    private ChunkPregenerator() {
+    }
+
+    public void init(MinecraftServer server) {
+        this.dataPath = server.getWorldPath(LevelResource.ROOT).resolve(PROGRESS_FILE);
+        this.regions = null;
+        this.cursors.clear();
+        this.current = 0;
+        this.inFlight = 0;
+        this.generatedThisSession = 0;
+        load();
+    }
+
+    public void tick(MinecraftServer server) {
+        ModConfig config = ModConfig.getInstance();
+        if (!config.pregenEnabled || paused)
+            return;
+
+        var game = BingoApi.getGame();
+        inLobby = game != null && game.getStatus().equals(BingoGameStatus.PREGAME);
+        if (!inLobby)
+            return;
+
+        if (regions == null) {
+            buildRegions(server);
+        }
+
+        if (++ticksSinceSave >= SAVE_INTERVAL_TICKS) {
+            ticksSinceSave = 0;
+            save();
+        }
+
+        throttled = server.getAverageTickTimeNanos() > config.pregenMaxMspt * 1_000_000L;
+        if (throttled)
+            return;
+
+        int skips = 0;
+        while (inFlight < config.pregenMaxInFlight && current < cursors.size()) {
+            Cursor cursor = cursors.get(current);
+            ServerLevel level = server.getLevel(cursor.region.dimension());
+            int[] chunk = level != null ? cursor.nextChunk() : null;
+            if (chunk == null) {
+                // Region fully requested, the next one can start
+                current++;
+                continue;
+            }
+
+            int index = cursor.issued++;
+            if (level.hasChunk(chunk[0], chunk[1])) {
+                cursor.completed++;
+                if (++skips >= MAX_SKIPS_PER_TICK)
+                    return;
+                continue;
+            }
+
+            inFlight++;
+            cursor.outstanding.add(index);
+            level.getChunkSource().getChunkFuture(chunk[0], chunk[1], ChunkStatus.FULL, true)
+                    .whenComplete((result, error) -> server.execute(() -> onGenerated(cursor, index, error)));
+        }
+    }
+
+    private void onGenerated(Cursor cursor, int index, Throwable error) {
+        if (!cursors.contains(cursor))
+            return; // Reset in the meantime
+        inFlight--;
+        cursor.outstanding.remove(index);
+        cursor.completed++;
+        generatedThisSession++;
+        if (error != null) {
+            BingoBackpack.LOGGER.warn("Pregeneration of a chunk in {} failed: {}", cursor.region.name(),
+                    error.getMessage());
+        }
+        if (cursor.isDone()) {
+            BingoBackpack.LOGGER.info("Pregeneration of {} finished ({} chunks)", cursor.region.name(), cursor.total);
+            save();
+        }
+    }
+
+    private void buildRegions(MinecraftServer server) {
+        ModConfig config = ModConfig.getInstance();
+        BlockPos spawn = server.overworld().getLevelData().getRespawnData().pos();
+        int spawnX = spawn.getX() >> 4;
+        int spawnZ = spawn.getZ() >> 4;
+
+        List<Region> list = new ArrayList<>();
+        addRegion(list, new Region("overworld_spawn", Level.OVERWORLD, spawnX, spawnZ,
+                0, config.pregenSpawnRadiusChunks, 1));
+        addRegion(list, new Region("overworld_teleport_band", Level.OVERWORLD, spawnX, spawnZ,
+                config.randomTeleportMinDistance >> 4, config.randomTeleportMaxDistance >> 4,
+                Math.max(1, config.pregenBandStride)));
+        addRegion(list, new Region("nether_spawn", Level.NETHER, (spawn.getX() / 8) >> 4, (spawn.getZ() / 8) >> 4,
+                0, config.pregenNetherRadiusChunks, 1));
+        addRegion(list, new Region("end_teleport", Level.END, config.endTeleportSpawnX >> 4,
+                config.endTeleportSpawnZ >> 4, 0, config.pregenEndRadiusChunks, 1));
+        regions = list;
+
+        String fingerprint = list.toString();
+        if (!fingerprint.equals(progress.regions)) {
+            if (!progress.regions.isEmpty()) {
+                BingoBackpack.LOGGER.info("Pregeneration regions changed, starting over");
+            }
+            progress = new Progress();
+            progress.regions = fingerprint;
+        }
+
+        cursors.clear();
+        for (Region region : list) {
+            cursors.add(Cursor.resume(region, progress.done.getOrDefault(region.name(), 0)));
+        }
+        current = 0;
+    }
+
+    private static void addRegion(List<Region> list, Region region) {
+        if (region.outer() >= region.inner() && region.outer() > 0) {
+            list.add(region);
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean value) {
+        paused = value;
+        if (value) {
+            save();
+        }
+    }
+
+    /**
+     * Forget all progress; the next lobby tick starts from the first ring.
+     */
+    public void reset() {
+        progress = new Progress();
+        regions = null;
+        cursors.clear();
+        current = 0;
+        inFlight = 0;
+        save();
+    }
+
+    /**
+     * One line per region for /backpack pregen.
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        if (regions == null) {
+            lines.add("§7Pregeneration starts once the game is in the lobby.");
+            return lines;
+        }
+        long done = 0;
+        long total = 0;
+        for (Cursor cursor : cursors) {
+            done += cursor.completed;
+            total += cursor.total;
+            lines.add("§e" + cursor.region.name() + " §7(" + cursor.region.dimension().identifier().getPath()
+                    + "): §f" + cursor.completed + "/" + cursor.total + " §7(" + percent(cursor.completed, cursor.total)
+                    + "%)");
+        }
+        String state = paused ? "§cpaused"
+                : done >= total ? "§afinished"
+                        : !inLobby ? "§7waiting for the lobby"
+                                : throttled ? "§6throttled (MSPT)" : "§arunning";
+        lines.add(0, "§6Pregeneration: " + state + " §7- §f" + done + "/" + total + " §7chunks ("
+                + percent(done, total) + "%), " + generatedThisSession + " since start, " + inFlight
+                + " in flight");
+        return lines;
+    }
+
+    private static long percent(long done, long total) {
+        return total == 0 ? 100 : done * 100 / total;
+    }
+
+    public void save() {
+        if (dataPath == null)
+            return;
+        for (Cursor cursor : cursors) {
+            progress.done.put(cursor.region.name(), cursor.resumeIndex());
+        }
+        try {
+            Files.writeString(dataPath, GSON.toJson(progress));
+        } catch (IOException e) {
+            BingoBackpack.LOGGER.error("Failed to save pregeneration progress", e);
+        }
+    }
+
+    private void load() {
+        progress = new Progress();
+        if (dataPath == null || !Files.exists(dataPath))
+            return;
+        try {
+            Progress loaded = GSON.fromJson(Files.readString(dataPath), Progress.class);
+            if (loaded != null && loaded.regions != null && loaded.done != null) {
+                progress = loaded;
+            }
+        } catch (IOException | com.google.gson.JsonParseException e) {
+            BingoBackpack.LOGGER.error("Failed to load pregeneration progress", e);
+        }
+    }
+}
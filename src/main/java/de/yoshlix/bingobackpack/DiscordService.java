@@ -2,6 +2,7 @@ package de.yoshlix.bingobackpack;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import de.yoshlix.bingobackpack.jfr.DiscordHttpEvent;
 import net.minecraft.server.MinecraftServer;
 
 import java.net.URI;
@@ -98,6 +99,9 @@ public class DiscordService {
             Exception lastException = null;
             while (attempt < maxRetries && !success) {
                 attempt++;
+                DiscordHttpEvent event = new DiscordHttpEvent();
+                event.begin();
+                int status = 0;
                 try {
                     String json = payload != null ? GSON.toJson(payload) : "";
                     HttpRequest.Builder builder = HttpRequest.newBuilder()
@@ -113,6 +117,8 @@ public class DiscordService {
 
                     HttpResponse<String> response = httpClient.send(builder.build(),
                             HttpResponse.BodyHandlers.ofString());
+                    status = response.statusCode();
+                    commitHttpEvent(event, endpoint, attempt, status);
                     if (response.statusCode() >= 400) {
                         BingoBackpack.LOGGER.error("Discord Service Error {}: {} (Attempt {}/{})",
                                 response.statusCode(), response.body(), attempt, maxRetries);
@@ -126,6 +132,9 @@ public class DiscordService {
                         success = true;
                     }
                 } catch (Exception e) {
+                    if (status == 0) {
+                        commitHttpEvent(event, endpoint, attempt, status);
+                    }
                     lastException = e;
                     BingoBackpack.LOGGER.error("Fehler bei Discord Service Call ({}), Versuch {}/{}", endpoint, attempt,
                             maxRetries, e);
@@ -143,5 +152,14 @@ public class DiscordService {
         });
     }
 
+    private static void commitHttpEvent(DiscordHttpEvent event, String endpoint, int attempt, int status) {
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.attempt = attempt;
+            event.status = status;
+            event.commit();
+        }
+    }
+
     // Payload-Klassen entfernt, da sie nicht benötigt werden
 }
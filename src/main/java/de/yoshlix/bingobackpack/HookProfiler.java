@@ -0,0 +1,213 @@
+package de.yoshlix.bingobackpack;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Low-overhead timing and allocation recorder for the mod's hooks (tick
+ * handlers, mixin entry points, backpack saves), shown by /backpack perf.
+ *
+ * Every hook has a fixed Section. A call is wrapped as
+ * {@code long start = SECTION.begin(); try { ... } finally { SECTION.end(start); }}.
+ * When the profiler is off, begin() is a single static field read and
+ * returns 0, and end(0) returns immediately. When it is on, each call records
+ * its wall time and the bytes allocated by the calling thread into a rolling
+ * window of the last WINDOW calls. Nested sections are measured inclusively.
+ */
+public class HookProfiler {
+    private static final int WINDOW = 1024;
+
+    private static final List<Section> SECTIONS = new ArrayList<>();
+    private static final com.sun.management.ThreadMXBean THREADS = initThreadBean();
+    // Allocation start of each open section, per thread (only used while enabled)
+    private static final ThreadLocal<long[]> ALLOC_STACK = ThreadLocal.withInitial(() -> new long[17]);
+
+    private static boolean enabled = false;
+    private static int resetTick = 0;
+
+    // Tick handlers
+    public static final Section TICK_INTEGRATION = section("tick: BingoIntegration");
+    public static final Section TICK_REWARDS = section("tick: BingoRewardSystem");
+    public static final Section TICK_BACKPACKS = section("tick: BackpackManager");
+    public static final Section TICK_TEAMS = section("tick: TeamManager");
+    public static final Section TICK_SCHEDULER = section("tick: EffectScheduler");
+    public static final Section TICK_BANISH = section("tick: BanishManager");
+    public static final Section TICK_TELEPORT_POOL = section("tick: TeleportDestinationPool");
+    public static final Section TICK_PREGEN = section("tick: ChunkPregenerator");
+
+    // Mixin entry points
+    public static final Section MIXIN_HUNGER = section("mixin: HungerMixin");
+    public static final Section MIXIN_MOB_DEATH = section("mixin: MobDeathMixin");
+    public static final Section MIXIN_ITEM_USE = section("mixin: BingoItemUseMixin");
+    public static final Section MIXIN_BUNDLE = section("mixin: BundleItemMixin");
+
+    // Backpack saves
+    public static final Section SAVE_BACKPACK = section("save: backpack (sync)");
+    public static final Section SAVE_FLUSH = section("save: backpack flush");
+    public static final Section SAVE_WRITE = section("save: backpack write");
+    public static final Section SAVE_ALL = section("save: all backpacks");
+
+    private HookProfiler() {
+    }
+
+    private static Section section(String name) {
+        Section section = new Section(name);
+        SECTIONS.add(section);
+        return section;
+    }
+
+    private static com.sun.management.ThreadMXBean initThreadBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            BingoBackpack.LOGGER.warn("Thread allocation tracking unavailable, profiler records time only");
+        }
+        return null;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static boolean isAllocationTracked() {
+        return THREADS != null;
+    }
+
+    /**
+     * Clear every window and start counting ticks from the given server tick.
+     */
+    public static void reset(int currentTick) {
+        for (Section section : SECTIONS) {
+            section.reset();
+        }
+        resetTick = currentTick;
+    }
+
+    public static int getResetTick() {
+        return resetTick;
+    }
+
+    /**
+     * Summaries of every section that recorded at least one call, most total
+     * time first.
+     */
+    public static List<Stats> snapshot() {
+        List<Stats> stats = new ArrayList<>();
+        for (Section section : SECTIONS) {
+            Stats s = section.stats();
+            if (s.calls() > 0) {
+                stats.add(s);
+            }
+        }
+        stats.sort(Collections.reverseOrder((a, b) -> Long.compare(a.totalNanos(), b.totalNanos())));
+        return stats;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    /**
+     * Summary of one section since the last reset. Percentiles and max cover
+     * the rolling window, totals cover everything since the reset.
+     */
+    public record Stats(String name, long calls, long totalNanos, long totalBytes, Percentiles nanos,
+            Percentiles bytes) {
+    }
+
+    public record Percentiles(long p50, long p99, long max) {
+        private static Percentiles of(long[] window, int filled) {
+            long[] sorted = Arrays.copyOf(window, filled);
+            Arrays.sort(sorted);
+            return new Percentiles(sorted[(filled - 1) / 2],
+                    sorted[Math.min(filled - 1, (int) Math.ceil(filled * 0.99) - 1)],
+                    sorted[filled - 1]);
+        }
+    }
+
+    /**
+     * One profiled hook.
+     */
+    public static final class Section {
+        private final String name;
+        private final long[] nanos = new long[WINDOW];
+        private final long[] bytes = new long[WINDOW];
+        private int next = 0;
+        private long calls = 0;
+        private long totalNanos = 0;
+        private long totalBytes = 0;
+
+        private Section(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Start a call. Returns 0 while the profiler is off.
+         */
+        public long begin() {
+            if (!enabled) {
+                return 0L;
+            }
+            long[] stack = ALLOC_STACK.get();
+            int depth = (int) stack[0];
+            if (depth + 1 < stack.length) {
+                stack[depth + 1] = allocatedBytes();
+            }
+            stack[0] = depth + 1;
+            return System.nanoTime();
+        }
+
+        /**
+         * Finish a call started with begin().
+         */
+        public void end(long start) {
+            if (start == 0L) {
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            long[] stack = ALLOC_STACK.get();
+            int depth = (int) stack[0];
+            long allocated = depth > 0 && depth < stack.length ? allocatedBytes() - stack[depth] : 0L;
+            stack[0] = Math.max(0, depth - 1);
+            record(elapsed, allocated);
+        }
+
+        private synchronized void record(long elapsed, long allocated) {
+            nanos[next] = elapsed;
+            bytes[next] = allocated;
+            next = (next + 1) % WINDOW;
+            calls++;
+            totalNanos += elapsed;
+            totalBytes += allocated;
+        }
+
+        private synchronized void reset() {
+            Arrays.fill(nanos, 0L);
+            Arrays.fill(bytes, 0L);
+            next = 0;
+            calls = 0;
+            totalNanos = 0;
+            totalBytes = 0;
+        }
+
+        private synchronized Stats stats() {
+            int filled = (int) Math.min(calls, WINDOW);
+            if (filled == 0) {
+                return new Stats(name, 0, 0, 0, null, null);
+            }
+            return new Stats(name, calls, totalNanos, totalBytes,
+                    Percentiles.of(nanos, filled), Percentiles.of(bytes, filled));
+        }
+    }
+}
@@ -42,6 +42,15 @@ public class ModConfig {
     public int randomTeleportMinDistance = 500;
     public int randomTeleportMaxDistance = 5000;
     public int biomeTeleportSearchRadius = 10000;
+    // Biome teleports look up biomes in a map sampled every biomeRasterStep blocks on a worker thread
+    public boolean biomeRasterEnabled = true;
+    public int biomeRasterStep = 64;
+    // Off-thread biome searches (used until the raster is ready), cached per biomeSearchCellSize cell of the origin
+    public int biomeSearchThreads = 2;
+    public int biomeSearchCellSize = 256;
+    public int biomeSearchCacheTtlSeconds = 300;
+    // Biome Teleport Choice starts searching every offered biome when the menu is shown
+    public boolean biomeSearchSpeculative = true;
     public int structureSearchRadius = 2000;
 
     // Teleport Settings
@@ -51,6 +60,26 @@ public class ModConfig {
     public int netherCeilingY = 127;
     public int netherFallbackY = 64;
     public int safePosSearchRange = 10;
+    // Teleport items load their target chunks in the background; after this many ticks the item is refunded
+    public int teleportPrepareTimeoutTicks = 200;
+    // Pre-validated random teleport destinations kept per dimension (0 = off), refilled with a small per-tick
+    // budget; during a game refills pause while the average tick takes longer than teleportPoolMaxTickMs
+    public int teleportPoolSize = 8;
+    public int teleportPoolProbesPerTick = 1;
+    public int teleportPoolMaxInFlight = 2;
+    public double teleportPoolMaxTickMs = 25.0;
+    // Pooled destinations older than this are dropped (0 = keep until used)
+    public int teleportPoolEntryMaxAgeTicks = 6000;
+
+    // Lobby chunk pregeneration (only while the game is in PREGAME): spawn area, random teleport band
+    // (every pregenBandStride-th chunk), nether below spawn and the End teleport platform; radii in chunks
+    public boolean pregenEnabled = true;
+    public int pregenSpawnRadiusChunks = 16;
+    public int pregenBandStride = 3;
+    public int pregenNetherRadiusChunks = 8;
+    public int pregenEndRadiusChunks = 4;
+    public int pregenMaxInFlight = 4;
+    public double pregenMaxMspt = 40.0;
 
     // Item Settings
     public int deleteEnemyItemsMin = 2;
@@ -61,9 +90,34 @@ public class ModConfig {
 
     // Backpack Settings
     public int backpackSize = 54;
+    public boolean backpackWriteBehind = true;
+    public int backpackFlushIntervalTicks = 40;
+    // "snapshot" rewrites the whole backpack, "journal" appends changed slots and compacts later,
+    // "region" keeps all teams in one memory-mapped file
+    public String backpackStorageMode = "snapshot";
+    public int backpackJournalCompactThreshold = 256;
+    public int backpackRegionInitialSectors = 256;
+    public boolean backpackFastCompression = false;
+    // Backpacks kept in memory; the least recently used closed ones are saved and unloaded (0 = unlimited)
+    public int backpackMaxActiveContainers = 16;
+    public boolean backpackPrefetchOnStart = true;
+    // Content-addressed backpack history for /backpack admin snapshot (interval 0 = only at round end)
+    public boolean backpackSnapshotsEnabled = true;
+    public int backpackSnapshotIntervalTicks = 6000;
+    // Rounds whose snapshots stay uncompressed; older rounds are packed into the cold tier
+    public int backpackSnapshotHotRounds = 1;
+    // Rounds of snapshots kept at all (0 = keep everything); older rounds are deleted at round end
+    public int backpackSnapshotRetentionRounds = 10;
 
     // Bingo Integration
     public int bingoCheckIntervalTicks = 20;
+    // Consistency rescan of all scoreboard teams; changes are normally applied from the scoreboard hooks
+    public int bingoTeamFullSyncTicks = 1200;
+    // Team file is written this many ticks after the last change; "json" or "binary" (compact, UUIDs as longs)
+    public int teamSaveDebounceTicks = 20;
+    // Upper bound on the delay under continuous changes, counted from the first unsaved change
+    public int teamSaveMaxDelayTicks = 200;
+    public String teamStorageFormat = "json";
 
     // Drop System
     public long dropCooldownMs = 60000;
@@ -73,6 +127,11 @@ public class ModConfig {
     public double randomGiftChance = 0.05;
     public int milestoneInterval = 5;
     public double taskCompleteItemChance = 0.15;
+    // Safety-net rescan of the card; completions are normally picked up from the scoring hooks
+    public int bingoProgressReconcileTicks = 40;
+
+    // Per-hook timing and allocation recorder for /backpack perf (off costs one field read per hook)
+    public boolean hookProfilerEnabled = false;
 
     // Drop Chances per Rarity (0.0 - 1.0)
     public double dropChanceCommon = 0.05;
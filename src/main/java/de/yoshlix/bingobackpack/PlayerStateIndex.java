@@ -0,0 +1,183 @@
+package de.yoshlix.bingobackpack;
+
+import de.yoshlix.bingobackpack.item.EffectScheduler;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Flat per-player state for the checks that run on hot paths (mixins, item
+ * use, enemy targeting).
+ *
+ * Every player seen during the session gets a dense slot. Each slot has an int
+ * of flag bits plus one expiry per flag (in EffectScheduler ticks), stored in
+ * primitive arrays. The slot is also cached on the ServerPlayer itself (see
+ * ServerPlayerStateSlotMixin), so a check for an online player is an array read
+ * without hashing or boxing. Slots are kept when a player logs out so effects
+ * on offline players still apply when they return.
+ *
+ * The owning systems (BanishManager, Lockdown, TimeoutPlayer and the flight
+ * items) keep their own maps for details and mirror the flags here. Team
+ * shields are not mirrored: they follow team membership, which can change
+ * while a shield is up.
+ * Server thread only.
+ */
+public class PlayerStateIndex {
+    public static final int BANISHED = 1;
+    public static final int LOCKED = 1 << 1;
+    public static final int TIMED_OUT = 1 << 2;
+    public static final int FLYING = 1 << 3;
+    private static final int FLAG_COUNT = 4;
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    /**
+     * Implemented on ServerPlayer by ServerPlayerStateSlotMixin.
+     */
+    public interface SlotHolder {
+        int bingoBackpack$getStateSlot();
+
+        void bingoBackpack$setStateSlot(int slot);
+    }
+
+    private static PlayerStateIndex instance;
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private UUID[] owners = new UUID[16];
+    private int[] flags = new int[16];
+    private long[] expiries = new long[16 * FLAG_COUNT];
+    private int size = 0;
+
+    public static PlayerStateIndex getInstance() {
+        if (instance == null) {
+            instance = new PlayerStateIndex();
+        }
+        return instance;
+    }
+
+    private PlayerStateIndex() {
+    }
+
+    /**
+     * Check a flag for an online player.
+     */
+    public boolean has(ServerPlayer player, int flag) {
+        return (activeFlags(slotOf(player)) & flag) != 0;
+    }
+
+    /**
+     * Check a flag by UUID (for offline players or code that only has the id).
+     */
+    public boolean has(UUID playerId, int flag) {
+        return (activeFlags(slotOf(playerId, false)) & flag) != 0;
+    }
+
+    /**
+     * All flags of a player that are set and not expired.
+     */
+    public int getFlags(ServerPlayer player) {
+        return activeFlags(slotOf(player));
+    }
+
+    /**
+     * Expiry tick of a timed flag, or 0 if the flag is not active.
+     */
+    public long getExpiry(UUID playerId, int flag) {
+        int slot = slotOf(playerId, false);
+        if ((activeFlags(slot) & flag) == 0) {
+            return 0;
+        }
+        return expiries[slot * FLAG_COUNT + Integer.numberOfTrailingZeros(flag)];
+    }
+
+    /**
+     * Set a flag until it is cleared.
+     */
+    public void set(UUID playerId, int flag) {
+        setUntil(playerId, flag, NO_EXPIRY);
+    }
+
+    /**
+     * Set a flag until the given EffectScheduler tick.
+     */
+    public void setUntil(UUID playerId, int flag, long expiryTick) {
+        int slot = slotOf(playerId, true);
+        flags[slot] |= flag;
+        expiries[slot * FLAG_COUNT + Integer.numberOfTrailingZeros(flag)] = expiryTick;
+    }
+
+    public void clear(UUID playerId, int flag) {
+        int slot = slotOf(playerId, false);
+        if (slot >= 0) {
+            flags[slot] &= ~flag;
+        }
+    }
+
+    /**
+     * Clear a flag for every player.
+     */
+    public void clearAll(int flag) {
+        for (int slot = 0; slot < size; slot++) {
+            flags[slot] &= ~flag;
+        }
+    }
+
+    private int activeFlags(int slot) {
+        if (slot < 0) {
+            return 0;
+        }
+        int set = flags[slot];
+        if (set == 0) {
+            return 0;
+        }
+
+        long now = EffectScheduler.getInstance().getCurrentTick();
+        int active = 0;
+        int base = slot * FLAG_COUNT;
+        for (int bits = set; bits != 0; bits &= bits - 1) {
+            int bit = Integer.numberOfTrailingZeros(bits);
+            if (expiries[base + bit] > now) {
+                active |= 1 << bit;
+            }
+        }
+        return active;
+    }
+
+    // Online players always get a slot, so later checks hit the cached field
+    private int slotOf(ServerPlayer player) {
+        SlotHolder holder = (SlotHolder) player;
+        int slot = holder.bingoBackpack$getStateSlot();
+        if (slot >= 0 && slot < size && owners[slot].equals(player.getUUID())) {
+            return slot;
+        }
+
+        // New player object after join or respawn
+        slot = slotOf(player.getUUID(), true);
+        holder.bingoBackpack$setStateSlot(slot);
+        return slot;
+    }
+
+    private int slotOf(UUID playerId, boolean allocate) {
+        Integer slot = slots.get(playerId);
+        if (slot != null) {
+            return slot;
+        }
+        if (!allocate) {
+            return -1;
+        }
+
+        if (size == owners.length) {
+            int capacity = size * 2;
+            owners = Arrays.copyOf(owners, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            expiries = Arrays.copyOf(expiries, capacity * FLAG_COUNT);
+        }
+        int newSlot = size++;
+        owners[newSlot] = playerId;
+        slots.put(playerId, newSlot);
+        return newSlot;
+    }
+}
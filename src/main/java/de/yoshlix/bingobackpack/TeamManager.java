@@ -6,14 +6,36 @@ import com.google.gson.reflect.TypeToken;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.storage.LevelResource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * Backpack teams and their members.
+ *
+ * Changes only mark the teams dirty; tick() writes them teamSaveDebounceTicks
+ * after the last change on a background thread (temp file + atomic rename), so
+ * a round start with many joins is a single write. Under continuous changes
+ * the write still happens teamSaveMaxDelayTicks after the first unsaved one. The file is either pretty
+ * JSON or a compact binary form (UUIDs as two longs), selected by
+ * teamStorageFormat; loading reads whichever exists.
+ */
 public class TeamManager {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private static final String TEAMS_FILE = "bingobackpack_teams.json";
+    private static final String TEAMS_BINARY_FILE = "bingobackpack_teams.bin";
+    private static final int BINARY_MAGIC = 0x4242544D; // "BBTM"
+    private static final byte BINARY_VERSION = 1;
 
     // Map of team name to list of player UUIDs
     private final Map<String, Set<UUID>> teams = new HashMap<>();
@@ -21,12 +43,90 @@ public class TeamManager {
     private final Map<UUID, String> playerTeams = new HashMap<>();
 
     private Path dataPath;
+    private Path binaryPath;
+    private ExecutorService saveExecutor;
+    private boolean dirty = false;
+    private int ticksSinceChange = 0;
+    private int ticksSinceFirstChange = 0;
 
     public void init(MinecraftServer server) {
-        this.dataPath = server.getWorldPath(LevelResource.ROOT).resolve(TEAMS_FILE);
+        flush(true);
+        Path root = server.getWorldPath(LevelResource.ROOT);
+        this.dataPath = root.resolve(TEAMS_FILE);
+        this.binaryPath = root.resolve(TEAMS_BINARY_FILE);
+        if (saveExecutor == null) {
+            saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "BingoBackpack-Teams");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
         load();
     }
 
+    /**
+     * Called every server tick. Writes the teams once no change happened for
+     * teamSaveDebounceTicks, or teamSaveMaxDelayTicks after the first unsaved
+     * change.
+     */
+    public void tick() {
+        if (!dirty)
+            return;
+        ModConfig config = ModConfig.getInstance();
+        ticksSinceFirstChange++;
+        if (++ticksSinceChange >= config.teamSaveDebounceTicks
+                || ticksSinceFirstChange >= config.teamSaveMaxDelayTicks) {
+            flush(false);
+        }
+    }
+
+    /**
+     * Write pending changes. With wait set, blocks until the file is on disk
+     * (used on server stop).
+     */
+    public void flush(boolean wait) {
+        if (dirty && dataPath != null) {
+            dirty = false;
+            ticksSinceChange = 0;
+            ticksSinceFirstChange = 0;
+
+            // Copy on the server thread; encoding and writing happen on the save thread
+            Map<String, List<UUID>> copy = new LinkedHashMap<>();
+            for (Map.Entry<String, Set<UUID>> entry : teams.entrySet()) {
+                copy.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+            boolean binary = "binary".equalsIgnoreCase(ModConfig.getInstance().teamStorageFormat);
+            Path target = binary ? binaryPath : dataPath;
+            Path other = binary ? dataPath : binaryPath;
+
+            Runnable write = () -> {
+                try {
+                    writeAtomically(target, binary ? encodeBinary(copy) : encodeJson(copy));
+                    // Never leave a stale file of the other format behind for load() to pick up
+                    Files.deleteIfExists(other);
+                } catch (IOException e) {
+                    BingoBackpack.LOGGER.error("Failed to save teams", e);
+                }
+            };
+            if (saveExecutor == null) {
+                write.run();
+                return;
+            }
+            saveExecutor.execute(write);
+        }
+
+        if (wait && saveExecutor != null) {
+            try {
+                saveExecutor.submit(() -> {
+                }).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                BingoBackpack.LOGGER.error("Failed to wait for team save", e);
+            }
+        }
+    }
+
     public boolean createTeam(String teamName) {
         if (teams.containsKey(teamName)) {
             return false;
@@ -102,56 +202,140 @@ public class TeamManager {
     }
 
     private void save() {
-        if (dataPath == null)
-            return;
-        try {
-            // Convert UUID sets to String sets for JSON serialization
-            Map<String, Set<String>> serializableTeams = new HashMap<>();
-            for (Map.Entry<String, Set<UUID>> entry : teams.entrySet()) {
-                Set<String> uuidStrings = new HashSet<>();
+        if (!dirty) {
+            ticksSinceFirstChange = 0;
+        }
+        dirty = true;
+        ticksSinceChange = 0;
+    }
+
+    // Package-private for the jmh benchmarks
+    static byte[] encodeJson(Map<String, List<UUID>> snapshot) {
+        // Convert UUIDs to strings for JSON serialization
+        Map<String, List<String>> serializableTeams = new LinkedHashMap<>();
+        for (Map.Entry<String, List<UUID>> entry : snapshot.entrySet()) {
+            List<String> uuidStrings = new ArrayList<>(entry.getValue().size());
+            for (UUID uuid : entry.getValue()) {
+                uuidStrings.add(uuid.toString());
+            }
+            serializableTeams.put(entry.getKey(), uuidStrings);
+        }
+        return GSON.toJson(serializableTeams).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Layout: {@code int magic, byte version, int teamCount, teamCount x (UTF
+     * name, int memberCount, memberCount x (long msb, long lsb))}.
+     */
+    static byte[] encodeBinary(Map<String, List<UUID>> snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(BINARY_MAGIC);
+            out.writeByte(BINARY_VERSION);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, List<UUID>> entry : snapshot.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().size());
                 for (UUID uuid : entry.getValue()) {
-                    uuidStrings.add(uuid.toString());
+                    out.writeLong(uuid.getMostSignificantBits());
+                    out.writeLong(uuid.getLeastSignificantBits());
                 }
-                serializableTeams.put(entry.getKey(), uuidStrings);
             }
-            String json = GSON.toJson(serializableTeams);
-            Files.writeString(dataPath, json);
-        } catch (IOException e) {
-            BingoBackpack.LOGGER.error("Failed to save teams", e);
         }
+        return bytes.toByteArray();
+    }
+
+    private static void writeAtomically(Path file, byte[] data) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tempFile, data);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
     }
 
     private void load() {
-        if (dataPath == null || !Files.exists(dataPath))
+        if (dataPath == null)
             return;
+
+        // Prefer the configured format, fall back to the other one after a switch
+        boolean binary = "binary".equalsIgnoreCase(ModConfig.getInstance().teamStorageFormat);
+        Path first = binary ? binaryPath : dataPath;
+        Path second = binary ? dataPath : binaryPath;
+        Path file = Files.exists(first) ? first : second;
+        if (!Files.exists(file))
+            return;
+
         try {
-            String json = Files.readString(dataPath);
-            Map<String, Set<String>> loadedTeams = GSON.fromJson(json,
-                    new TypeToken<Map<String, Set<String>>>() {
-                    }.getType());
+            byte[] data = Files.readAllBytes(file);
+            Map<String, List<UUID>> loadedTeams = isBinary(data) ? decodeBinary(data) : decodeJson(data);
             if (loadedTeams != null) {
                 teams.clear();
                 playerTeams.clear();
-                for (Map.Entry<String, Set<String>> entry : loadedTeams.entrySet()) {
-                    Set<UUID> uuids = new HashSet<>();
-                    for (String uuidStr : entry.getValue()) {
-                        try {
-                            UUID uuid = UUID.fromString(uuidStr);
-                            uuids.add(uuid);
-                            playerTeams.put(uuid, entry.getKey());
-                        } catch (IllegalArgumentException e) {
-                            BingoBackpack.LOGGER.warn("Invalid UUID '{}' in team '{}', skipping", uuidStr,
-                                    entry.getKey());
-                        }
+                for (Map.Entry<String, List<UUID>> entry : loadedTeams.entrySet()) {
+                    Set<UUID> uuids = new HashSet<>(entry.getValue());
+                    for (UUID uuid : uuids) {
+                        playerTeams.put(uuid, entry.getKey());
                     }
                     teams.put(entry.getKey(), uuids);
                 }
             }
+            if (file != first) {
+                // Rewrite in the configured format
+                save();
+            }
         } catch (IOException e) {
             BingoBackpack.LOGGER.error("Failed to load teams", e);
         }
     }
 
+    private static boolean isBinary(byte[] data) {
+        return data.length >= 5
+                && ((data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16 | (data[2] & 0xFF) << 8 | (data[3] & 0xFF)) == BINARY_MAGIC;
+    }
+
+    private static Map<String, List<UUID>> decodeBinary(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            in.readInt(); // magic
+            byte version = in.readByte();
+            if (version > BINARY_VERSION) {
+                throw new IOException("Unsupported team file version " + version);
+            }
+            int teamCount = in.readInt();
+            Map<String, List<UUID>> result = new LinkedHashMap<>();
+            for (int i = 0; i < teamCount; i++) {
+                String name = in.readUTF();
+                int memberCount = in.readInt();
+                List<UUID> members = new ArrayList<>(memberCount);
+                for (int j = 0; j < memberCount; j++) {
+                    members.add(new UUID(in.readLong(), in.readLong()));
+                }
+                result.put(name, members);
+            }
+            return result;
+        }
+    }
+
+    private static Map<String, List<UUID>> decodeJson(byte[] data) {
+        Map<String, Set<String>> loadedTeams = GSON.fromJson(new String(data, StandardCharsets.UTF_8),
+                new TypeToken<Map<String, Set<String>>>() {
+                }.getType());
+        if (loadedTeams == null)
+            return null;
+
+        Map<String, List<UUID>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> entry : loadedTeams.entrySet()) {
+            List<UUID> uuids = new ArrayList<>();
+            for (String uuidStr : entry.getValue()) {
+                try {
+                    uuids.add(UUID.fromString(uuidStr));
+                } catch (IllegalArgumentException e) {
+                    BingoBackpack.LOGGER.warn("Invalid UUID '{}' in team '{}', skipping", uuidStr,
+                            entry.getKey());
+                }
+            }
+            result.put(entry.getKey(), uuids);
+        }
+        return result;
+    }
+
     // Singleton instance
     private static TeamManager instance;
 
@@ -4,6 +4,9 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import de.yoshlix.bingobackpack.BingoBackpack;
+import de.yoshlix.bingobackpack.HookProfiler;
+import de.yoshlix.bingobackpack.PlayerStateIndex;
+import de.yoshlix.bingobackpack.jfr.ArenaGenerateEvent;
 import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
@@ -100,27 +103,36 @@ public class BanishManager {
 
         ServerTickEvents.END_SERVER_TICK.register(srv -> {
             if (srv.getTickCount() % 20 != 0) return;
-            
-            ServerLevel endLevel = srv.getLevel(Level.END);
-            if (endLevel == null) return;
-            
-            // Copy key set to avoid ConcurrentModificationException
-            List<UUID> uuids = new ArrayList<>(banished.keySet());
-            for (UUID uuid : uuids) {
-                if (!banished.containsKey(uuid)) continue; // may have been unbanished during iteration
-                ServerPlayer player = srv.getPlayerList().getPlayer(uuid);
-                if (player != null) {
-                    BanishData data = banished.get(uuid);
-                    if (data == null) continue;
-                    BlockPos origin = new BlockPos(data.originX, data.originY, data.originZ);
-                    tasks.get(data.taskIndex).tick(player, origin);
-                }
+
+            long start = HookProfiler.TICK_BANISH.begin();
+            try {
+                tickTasks(srv);
+            } finally {
+                HookProfiler.TICK_BANISH.end(start);
             }
         });
     }
 
+    private void tickTasks(MinecraftServer srv) {
+        ServerLevel endLevel = srv.getLevel(Level.END);
+        if (endLevel == null) return;
+
+        // Copy key set to avoid ConcurrentModificationException
+        List<UUID> uuids = new ArrayList<>(banished.keySet());
+        for (UUID uuid : uuids) {
+            if (!banished.containsKey(uuid)) continue; // may have been unbanished during iteration
+            ServerPlayer player = srv.getPlayerList().getPlayer(uuid);
+            if (player != null) {
+                BanishData data = banished.get(uuid);
+                if (data == null) continue;
+                BlockPos origin = new BlockPos(data.originX, data.originY, data.originZ);
+                tasks.get(data.taskIndex).tick(player, origin);
+            }
+        }
+    }
+
     public boolean isBanished(ServerPlayer player) {
-        return banished.containsKey(player.getUUID());
+        return PlayerStateIndex.getInstance().has(player, PlayerStateIndex.BANISHED);
     }
 
     public void banish(ServerPlayer player) {
@@ -152,13 +164,22 @@ public class BanishManager {
         endLevel.getChunk(origin.getX() >> 4, origin.getZ() >> 4);
         
         BanishTask task = tasks.get(taskIdx);
+        ArenaGenerateEvent event = new ArenaGenerateEvent();
+        event.begin();
+        TaskUtils.resetPlacedCount();
         Vec3 spawnPos = task.generate(endLevel, origin);
+        if (event.shouldCommit()) {
+            event.task = task.getClass().getSimpleName();
+            event.blocksPlaced = TaskUtils.getPlacedCount();
+            event.commit();
+        }
         
         data.taskSpawnX = spawnPos.x;
         data.taskSpawnY = spawnPos.y;
         data.taskSpawnZ = spawnPos.z;
         
         banished.put(player.getUUID(), data);
+        PlayerStateIndex.getInstance().set(player.getUUID(), PlayerStateIndex.BANISHED);
         save();
         
         player.teleportTo(endLevel, spawnPos.x, spawnPos.y, spawnPos.z, java.util.Set.of(), 0, 0, true);
@@ -197,6 +218,7 @@ public class BanishManager {
 
     private void unbanish(ServerPlayer player, Component successMessage, Component fallbackMessage) {
         BanishData data = banished.remove(player.getUUID());
+        PlayerStateIndex.getInstance().clear(player.getUUID(), PlayerStateIndex.BANISHED);
         save();
         
         if (data != null) {
@@ -305,6 +327,10 @@ public class BanishManager {
             Map<UUID, BanishData> loaded = GSON.fromJson(json, new TypeToken<Map<UUID, BanishData>>(){}.getType());
             if (loaded != null) {
                 this.banished = loaded;
+                PlayerStateIndex.getInstance().clearAll(PlayerStateIndex.BANISHED);
+                for (UUID uuid : loaded.keySet()) {
+                    PlayerStateIndex.getInstance().set(uuid, PlayerStateIndex.BANISHED);
+                }
             }
         } catch (IOException e) {
             BingoBackpack.LOGGER.error("Failed to load banished list", e);
@@ -42,19 +42,19 @@ public class TaskArena implements BanishTask {
         // Build hollow bedrock box
         TaskUtils.hollowBox(level, origin.offset(-10, -1, -10), origin.offset(10, 6, 10), Blocks.BEDROCK, Blocks.AIR);
         // Add light
-        level.setBlock(origin.offset(0, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
-        level.setBlock(origin.offset(-5, 4, -5), Blocks.GLOWSTONE.defaultBlockState(), 3);
-        level.setBlock(origin.offset(5, 4, -5), Blocks.GLOWSTONE.defaultBlockState(), 3);
-        level.setBlock(origin.offset(-5, 4, 5), Blocks.GLOWSTONE.defaultBlockState(), 3);
-        level.setBlock(origin.offset(5, 4, 5), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(-5, 4, -5), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(5, 4, -5), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(-5, 4, 5), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(5, 4, 5), Blocks.GLOWSTONE.defaultBlockState(), 3);
         // Additional lighting along walls
-        level.setBlock(origin.offset(0, 4, -5), Blocks.GLOWSTONE.defaultBlockState(), 3);
-        level.setBlock(origin.offset(0, 4, 5), Blocks.GLOWSTONE.defaultBlockState(), 3);
-        level.setBlock(origin.offset(-5, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
-        level.setBlock(origin.offset(5, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 4, -5), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 4, 5), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(-5, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(5, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
 
         // Place a solid block under origin for the button later
-        level.setBlock(origin, Blocks.BEDROCK.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin, Blocks.BEDROCK.defaultBlockState(), 3);
 
         return getSpawnPos(origin);
     }
@@ -121,7 +121,7 @@ public class TaskArena implements BanishTask {
         }
         
         if (giveButton && !level.getBlockState(origin.above()).is(Blocks.POLISHED_BLACKSTONE_BUTTON)) {
-            level.setBlock(origin.above(), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
+            TaskUtils.setBlock(level, origin.above(), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
             player.sendSystemMessage(Component.literal("§aGeschafft! Der Flucht-Button ist in der Mitte!"));
         }
     }
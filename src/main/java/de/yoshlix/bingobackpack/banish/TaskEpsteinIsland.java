@@ -32,7 +32,7 @@ public class TaskEpsteinIsland implements BanishTask {
         for (int x = -r + 1; x < r; x++) {
             for (int z = -r + 1; z < r; z++) {
                 if (x * x + z * z < r * r) {
-                    level.setBlock(origin.offset(x, -1, z), Blocks.GRASS_BLOCK.defaultBlockState(), 3);
+                    TaskUtils.setBlock(level, origin.offset(x, -1, z), Blocks.GRASS_BLOCK.defaultBlockState(), 3);
                     TaskUtils.fill(level, origin.offset(x, -5, z), origin.offset(x, -2, z), Blocks.DIRT);
                 }
             }
@@ -57,7 +57,7 @@ public class TaskEpsteinIsland implements BanishTask {
         // Bunker lighting
         for (int x = -br + 2; x < br - 1; x += 4) {
             for (int z = -br + 2; z < br - 1; z += 4) {
-                level.setBlock(origin.offset(x, -7, z), Blocks.SEA_LANTERN.defaultBlockState(), 3);
+                TaskUtils.setBlock(level, origin.offset(x, -7, z), Blocks.SEA_LANTERN.defaultBlockState(), 3);
             }
         }
 
@@ -65,10 +65,10 @@ public class TaskEpsteinIsland implements BanishTask {
         TaskUtils.hollowBox(level, origin.offset(-3, 0, -3), origin.offset(3, 4, 3), Blocks.BIRCH_PLANKS, Blocks.AIR);
         
         // Doorway
-        level.setBlock(origin.offset(0, 1, 3), Blocks.AIR.defaultBlockState(), 3); // door bottom
-        level.setBlock(origin.offset(0, 2, 3), Blocks.AIR.defaultBlockState(), 3); // door top
+        TaskUtils.setBlock(level, origin.offset(0, 1, 3), Blocks.AIR.defaultBlockState(), 3); // door bottom
+        TaskUtils.setBlock(level, origin.offset(0, 2, 3), Blocks.AIR.defaultBlockState(), 3); // door top
         // Inside lighting
-        level.setBlock(origin.offset(0, 3, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 3, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
         
         // The secret shaft down to the bunker
         // Clear a 2x1 hole from inside the hut all the way down to the bunker floor
@@ -82,7 +82,7 @@ public class TaskEpsteinIsland implements BanishTask {
             // In 1.21.x, we just place the ladder state. If direction is completely off, it might pop, 
             // but usually attaching it automatically or relying on block tick suspension works. 
             // Let's use scaffolding instead for a foolproof vertical climb!
-            level.setBlock(origin.offset(0, y, 0), Blocks.SCAFFOLDING.defaultBlockState(), 3);
+            TaskUtils.setBlock(level, origin.offset(0, y, 0), Blocks.SCAFFOLDING.defaultBlockState(), 3);
         }
         
         // The flight log (win button) hidden inside the bunker
@@ -90,8 +90,8 @@ public class TaskEpsteinIsland implements BanishTask {
         int wx = rand.nextBoolean() ? (br - 2) : (-br + 2);
         int wz = rand.nextBoolean() ? (br - 2) : (-br + 2);
         
-        level.setBlock(origin.offset(wx, -10, wz), Blocks.LECTERN.defaultBlockState(), 3);
-        level.setBlock(origin.offset(wx, -9, wz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(wx, -10, wz), Blocks.LECTERN.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(wx, -9, wz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
 
         return getSpawnPos(origin);
     }
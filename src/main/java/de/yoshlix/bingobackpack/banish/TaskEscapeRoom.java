@@ -42,7 +42,7 @@ public class TaskEscapeRoom implements BanishTask {
         // Random room size
         int size = 3 + rand.nextInt(3); // 3 to 5
         TaskUtils.hollowBox(level, origin.offset(-size, -1, -size), origin.offset(size, 5, size), Blocks.BEDROCK, Blocks.AIR);
-        level.setBlock(origin.offset(0, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
 
         // Randomly choose material set
         boolean useStone = rand.nextBoolean();
@@ -52,7 +52,7 @@ public class TaskEscapeRoom implements BanishTask {
             for (int i = 0; i < count; i++) {
                 int rx = rand.nextInt(size * 2 - 1) - (size - 1);
                 int rz = rand.nextInt(size * 2 - 1) - (size - 1);
-                level.setBlock(origin.offset(rx, 0, rz), Blocks.COBBLESTONE.defaultBlockState(), 3);
+                TaskUtils.setBlock(level, origin.offset(rx, 0, rz), Blocks.COBBLESTONE.defaultBlockState(), 3);
             }
         } else {
             // Oak logs — player breaks them, crafts planks, then button
@@ -60,14 +60,14 @@ public class TaskEscapeRoom implements BanishTask {
             for (int i = 0; i < count; i++) {
                 int rx = rand.nextInt(size * 2 - 1) - (size - 1);
                 int rz = rand.nextInt(size * 2 - 1) - (size - 1);
-                level.setBlock(origin.offset(rx, 0, rz), Blocks.OAK_LOG.defaultBlockState(), 3);
+                TaskUtils.setBlock(level, origin.offset(rx, 0, rz), Blocks.OAK_LOG.defaultBlockState(), 3);
             }
         }
 
         // Crafting table at random position
         int ctx = rand.nextInt(size * 2 - 1) - (size - 1);
         int ctz = rand.nextInt(size * 2 - 1) - (size - 1);
-        level.setBlock(origin.offset(ctx, 0, ctz), Blocks.CRAFTING_TABLE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(ctx, 0, ctz), Blocks.CRAFTING_TABLE.defaultBlockState(), 3);
     }
 
     /**
@@ -75,7 +75,7 @@ public class TaskEscapeRoom implements BanishTask {
      */
     private void generateHiddenButtonRoom(ServerLevel level, BlockPos origin, Random rand) {
         TaskUtils.hollowBox(level, origin.offset(-5, -1, -5), origin.offset(5, 5, 5), Blocks.BEDROCK, Blocks.AIR);
-        level.setBlock(origin.offset(0, 4, 0), Blocks.SEA_LANTERN.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 4, 0), Blocks.SEA_LANTERN.defaultBlockState(), 3);
 
         // Build internal walls from breakable material
         for (int x = -4; x <= 4; x++) {
@@ -92,12 +92,12 @@ public class TaskEscapeRoom implements BanishTask {
         // Hidden button behind one of the walls
         int bx = rand.nextBoolean() ? (rand.nextBoolean() ? -4 : 4) : (rand.nextInt(7) - 3);
         int bz = rand.nextBoolean() ? (rand.nextBoolean() ? -4 : 4) : (rand.nextInt(7) - 3);
-        level.setBlock(origin.offset(bx, 0, bz), Blocks.AIR.defaultBlockState(), 3);
-        level.setBlock(origin.offset(bx, 1, bz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(bx, 0, bz), Blocks.AIR.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(bx, 1, bz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
 
         // Some decoy items
-        level.setBlock(origin.offset(-3, 0, 3), Blocks.CHEST.defaultBlockState(), 3);
-        level.setBlock(origin.offset(3, 0, -3), Blocks.BARREL.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(-3, 0, 3), Blocks.CHEST.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(3, 0, -3), Blocks.BARREL.defaultBlockState(), 3);
     }
 
     /**
@@ -106,30 +106,30 @@ public class TaskEscapeRoom implements BanishTask {
     private void generateMultiRoomPuzzle(ServerLevel level, BlockPos origin, Random rand) {
         // Room 1 (spawn room)
         TaskUtils.hollowBox(level, origin.offset(-3, -1, -3), origin.offset(3, 5, 3), Blocks.BEDROCK, Blocks.AIR);
-        level.setBlock(origin.offset(0, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 4, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
 
         // Room 2 (connected via breakable wall)
         TaskUtils.hollowBox(level, origin.offset(4, -1, -3), origin.offset(10, 5, 3), Blocks.BEDROCK, Blocks.AIR);
-        level.setBlock(origin.offset(7, 4, 0), Blocks.SEA_LANTERN.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(7, 4, 0), Blocks.SEA_LANTERN.defaultBlockState(), 3);
         // Breakable connection
         TaskUtils.fill(level, origin.offset(3, 0, -1), origin.offset(3, 2, 1), Blocks.OAK_PLANKS);
 
         // Room 3 (connected from room 2, different direction)
         TaskUtils.hollowBox(level, origin.offset(4, -1, 4), origin.offset(10, 5, 10), Blocks.BEDROCK, Blocks.AIR);
-        level.setBlock(origin.offset(7, 4, 7), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(7, 4, 7), Blocks.GLOWSTONE.defaultBlockState(), 3);
         // Breakable connection
         TaskUtils.fill(level, origin.offset(5, 0, 3), origin.offset(8, 2, 3), Blocks.SPRUCE_PLANKS);
 
         // Place crafting table and wood in room 2
-        level.setBlock(origin.offset(5, 0, 0), Blocks.CRAFTING_TABLE.defaultBlockState(), 3);
-        level.setBlock(origin.offset(6, 0, 1), Blocks.OAK_LOG.defaultBlockState(), 3);
-        level.setBlock(origin.offset(8, 0, -1), Blocks.COBBLESTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(5, 0, 0), Blocks.CRAFTING_TABLE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(6, 0, 1), Blocks.OAK_LOG.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(8, 0, -1), Blocks.COBBLESTONE.defaultBlockState(), 3);
 
         // Win button in room 3
         int bx = 5 + rand.nextInt(4);
         int bz = 5 + rand.nextInt(4);
-        level.setBlock(origin.offset(bx, 0, bz), Blocks.BEDROCK.defaultBlockState(), 3);
-        level.setBlock(origin.offset(bx, 1, bz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(bx, 0, bz), Blocks.BEDROCK.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(bx, 1, bz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
     }
 
     /**
@@ -138,20 +138,20 @@ public class TaskEscapeRoom implements BanishTask {
     private void generatePillarPuzzle(ServerLevel level, BlockPos origin, Random rand) {
         // Tall room
         TaskUtils.hollowBox(level, origin.offset(-4, -1, -4), origin.offset(4, 8, 4), Blocks.BEDROCK, Blocks.AIR);
-        level.setBlock(origin.offset(0, 7, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 7, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
 
         // Some blocks scattered to pillar up with
         for (int i = 0; i < 8; i++) {
             int rx = rand.nextInt(7) - 3;
             int rz = rand.nextInt(7) - 3;
-            level.setBlock(origin.offset(rx, 0, rz), Blocks.COBBLESTONE.defaultBlockState(), 3);
+            TaskUtils.setBlock(level, origin.offset(rx, 0, rz), Blocks.COBBLESTONE.defaultBlockState(), 3);
         }
 
         // Additional dirt blocks
         for (int i = 0; i < 6; i++) {
             int rx = rand.nextInt(7) - 3;
             int rz = rand.nextInt(7) - 3;
-            level.setBlock(origin.offset(rx, 0, rz), Blocks.DIRT.defaultBlockState(), 3);
+            TaskUtils.setBlock(level, origin.offset(rx, 0, rz), Blocks.DIRT.defaultBlockState(), 3);
         }
 
         // Button high up on a wall
@@ -162,7 +162,7 @@ public class TaskEscapeRoom implements BanishTask {
             case 2 -> origin.offset(-3, 6, rand.nextInt(5) - 2);
             default -> origin.offset(3, 6, rand.nextInt(5) - 2);
         };
-        level.setBlock(buttonPos, Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, buttonPos, Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
     }
 
     /**
@@ -185,11 +185,11 @@ public class TaskEscapeRoom implements BanishTask {
         // Button somewhere in the maze
         int bx = rand.nextInt(9) - 4;
         int bz = rand.nextInt(9) - 4;
-        level.setBlock(origin.offset(bx, 0, bz), Blocks.AIR.defaultBlockState(), 3);
-        level.setBlock(origin.offset(bx, 1, bz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(bx, 0, bz), Blocks.AIR.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(bx, 1, bz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
 
         // One single torch so player gets their bearings
-        level.setBlock(origin.offset(0, 1, 0), Blocks.SOUL_TORCH.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 1, 0), Blocks.SOUL_TORCH.defaultBlockState(), 3);
     }
 
     @Override
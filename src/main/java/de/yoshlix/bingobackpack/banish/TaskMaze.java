@@ -86,7 +86,7 @@ public class TaskMaze implements BanishTask {
                 if ((cx + cz) % 3 == 0) {
                     int bx = 1 + cx * (CELL + 1);
                     int bz = 1 + cz * (CELL + 1);
-                    level.setBlock(origin.offset(bx, 2, bz), Blocks.SEA_LANTERN.defaultBlockState(), 3);
+                    TaskUtils.setBlock(level, origin.offset(bx, 2, bz), Blocks.SEA_LANTERN.defaultBlockState(), 3);
                 }
             }
         }
@@ -94,8 +94,8 @@ public class TaskMaze implements BanishTask {
         // Win button at the end cell (bottom-right)
         int endX = 1 + (MAZE_W - 1) * (CELL + 1);
         int endZ = 1 + (MAZE_H - 1) * (CELL + 1);
-        level.setBlock(origin.offset(endX, 0, endZ), Blocks.BEDROCK.defaultBlockState(), 3);
-        level.setBlock(origin.offset(endX, 1, endZ), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(endX, 0, endZ), Blocks.BEDROCK.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(endX, 1, endZ), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
 
         return getSpawnPos(origin);
     }
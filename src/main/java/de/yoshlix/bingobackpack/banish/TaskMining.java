@@ -36,19 +36,19 @@ public class TaskMining implements BanishTask {
             int rx = decorRand.nextInt(9) - 4;
             int ry = decorRand.nextInt(9) - 4;
             int rz = decorRand.nextInt(9) - 4;
-            level.setBlock(origin.offset(rx, ry, rz), Blocks.DEEPSLATE.defaultBlockState(), 3);
+            TaskUtils.setBlock(level, origin.offset(rx, ry, rz), Blocks.DEEPSLATE.defaultBlockState(), 3);
         }
         for (int i = 0; i < 15; i++) {
             int rx = decorRand.nextInt(9) - 4;
             int ry = decorRand.nextInt(9) - 4;
             int rz = decorRand.nextInt(9) - 4;
-            level.setBlock(origin.offset(rx, ry, rz), Blocks.ANDESITE.defaultBlockState(), 3);
+            TaskUtils.setBlock(level, origin.offset(rx, ry, rz), Blocks.ANDESITE.defaultBlockState(), 3);
         }
 
         // Spawn area: small air pocket at the top of the stone cube
         TaskUtils.fill(level, origin.offset(-1, 4, -1), origin.offset(1, 5, 1), Blocks.AIR);
         // Light in spawn pocket
-        level.setBlock(origin.offset(0, 5, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(0, 5, 0), Blocks.GLOWSTONE.defaultBlockState(), 3);
 
         // Place win button randomly deep inside the stone
         Random rand = new Random(origin.asLong());
@@ -57,9 +57,9 @@ public class TaskMining implements BanishTask {
         int rz = rand.nextInt(7) - 3; // -3 to 3
 
         // Create a small cavity for the button
-        level.setBlock(origin.offset(rx, ry + 1, rz), Blocks.AIR.defaultBlockState(), 3);
-        level.setBlock(origin.offset(rx, ry, rz), Blocks.STONE.defaultBlockState(), 3); // solid base
-        level.setBlock(origin.offset(rx, ry + 1, rz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(rx, ry + 1, rz), Blocks.AIR.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, origin.offset(rx, ry, rz), Blocks.STONE.defaultBlockState(), 3); // solid base
+        TaskUtils.setBlock(level, origin.offset(rx, ry + 1, rz), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
 
         return getSpawnPos(origin);
     }
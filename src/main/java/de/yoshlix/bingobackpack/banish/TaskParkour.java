@@ -32,7 +32,7 @@ public class TaskParkour implements BanishTask {
         // Generate 30 jumps with guaranteed reachable distances
         for (int i = 0; i < 30; i++) {
             // Place a 1x1 block
-            level.setBlock(current, Blocks.END_STONE_BRICKS.defaultBlockState(), 3);
+            TaskUtils.setBlock(level, current, Blocks.END_STONE_BRICKS.defaultBlockState(), 3);
             
             // Generate next jump within reachable bounds:
             // Max sprint-jump: 4 blocks horizontal at same/lower level, 3 at +1 height
@@ -47,7 +47,7 @@ public class TaskParkour implements BanishTask {
         // End platform (3x3)
         TaskUtils.fill(level, current.offset(-1, 0, -1), current.offset(1, 0, 1), Blocks.OBSIDIAN);
         // Win button on center of end platform
-        level.setBlock(current.offset(0, 1, 0), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
+        TaskUtils.setBlock(level, current.offset(0, 1, 0), Blocks.POLISHED_BLACKSTONE_BUTTON.defaultBlockState(), 3);
 
         return getSpawnPos(origin);
     }
@@ -3,8 +3,25 @@ package de.yoshlix.bingobackpack.banish;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
 
 public class TaskUtils {
+    // Blocks placed since the last resetPlacedCount(), reported by the arena JFR event (server thread)
+    private static int placedCount = 0;
+
+    public static boolean setBlock(ServerLevel level, BlockPos pos, BlockState state, int flags) {
+        placedCount++;
+        return level.setBlock(pos, state, flags);
+    }
+
+    public static void resetPlacedCount() {
+        placedCount = 0;
+    }
+
+    public static int getPlacedCount() {
+        return placedCount;
+    }
+
     public static void fill(ServerLevel level, BlockPos start, BlockPos end, Block block) {
         int minX = Math.min(start.getX(), end.getX());
         int minY = Math.min(start.getY(), end.getY());
@@ -16,7 +33,7 @@ public class TaskUtils {
         for (int x = minX; x <= maxX; x++) {
             for (int y = minY; y <= maxY; y++) {
                 for (int z = minZ; z <= maxZ; z++) {
-                    level.setBlock(new BlockPos(x, y, z), block.defaultBlockState(), 3);
+                    setBlock(level, new BlockPos(x, y, z), block.defaultBlockState(), 3);
                 }
             }
         }
@@ -0,0 +1,153 @@
+package de.yoshlix.bingobackpack.item;
+
+import me.jfenn.bingo.api.data.IBingoObjective;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bitset view of a 5x5 bingo card.
+ *
+ * Field (x, y) is bit {@code y * 5 + x}. A team's progress is a long mask of
+ * its completed fields, and every row, column and diagonal is a precomputed
+ * mask, so counting lines or picking a random open field takes a few bit
+ * operations instead of building objective lists.
+ */
+public final class BingoCardState {
+    public static final int SIZE = 5;
+    public static final int CELLS = SIZE * SIZE;
+
+    // 5 rows, 5 columns, 2 diagonals
+    private static final long[] LINE_MASKS = new long[2 * SIZE + 2];
+
+    static {
+        long diagonal = 0;
+        long antiDiagonal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            long row = 0;
+            long column = 0;
+            for (int j = 0; j < SIZE; j++) {
+                row |= bit(j, i);
+                column |= bit(i, j);
+            }
+            LINE_MASKS[i] = row;
+            LINE_MASKS[SIZE + i] = column;
+            diagonal |= bit(i, i);
+            antiDiagonal |= bit(SIZE - 1 - i, i);
+        }
+        LINE_MASKS[2 * SIZE] = diagonal;
+        LINE_MASKS[2 * SIZE + 1] = antiDiagonal;
+    }
+
+    /**
+     * Source of the objectives of a card, usually {@code card::getObjective}.
+     */
+    @FunctionalInterface
+    public interface ObjectiveGrid {
+        IBingoObjective getObjective(int x, int y);
+    }
+
+    private final IBingoObjective[] cells = new IBingoObjective[CELLS];
+    private final long presentMask;
+
+    private BingoCardState(ObjectiveGrid grid) {
+        long present = 0;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                IBingoObjective objective = grid.getObjective(x, y);
+                if (objective != null) {
+                    cells[index(x, y)] = objective;
+                    present |= bit(x, y);
+                }
+            }
+        }
+        this.presentMask = present;
+    }
+
+    public static BingoCardState of(ObjectiveGrid grid) {
+        return new BingoCardState(grid);
+    }
+
+    public static int index(int x, int y) {
+        return y * SIZE + x;
+    }
+
+    public static long bit(int x, int y) {
+        return 1L << index(x, y);
+    }
+
+    public IBingoObjective get(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Fields the team has completed.
+     */
+    public long completedMask(String teamId) {
+        long completed = 0;
+        for (long bits = presentMask; bits != 0; bits &= bits - 1) {
+            int index = Long.numberOfTrailingZeros(bits);
+            if (cells[index].hasAchieved(teamId)) {
+                completed |= 1L << index;
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Fields that exist on the card but are not completed in the given mask.
+     */
+    public long openMask(long completedMask) {
+        return presentMask & ~completedMask;
+    }
+
+    /**
+     * Number of full rows, columns and diagonals in a completion mask.
+     */
+    public static int countLines(long completedMask) {
+        int lines = 0;
+        for (long line : LINE_MASKS) {
+            if ((completedMask & line) == line) {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Index of the n-th (0-based) set bit of the mask.
+     */
+    public static int selectBit(long mask, int n) {
+        for (int i = 0; i < n; i++) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * Pick a uniformly random field the team has not completed yet, across all
+     * given cards. Returns null if every field is completed.
+     */
+    public static IBingoObjective randomOpenObjective(List<BingoCardState> cards, String teamId, Random random) {
+        long[] open = new long[cards.size()];
+        int total = 0;
+        for (int i = 0; i < open.length; i++) {
+            BingoCardState card = cards.get(i);
+            open[i] = card.openMask(card.completedMask(teamId));
+            total += Long.bitCount(open[i]);
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        int n = random.nextInt(total);
+        for (int i = 0; i < open.length; i++) {
+            int count = Long.bitCount(open[i]);
+            if (n < count) {
+                return cards.get(i).get(selectBit(open[i], n));
+            }
+            n -= count;
+        }
+        return null;
+    }
+}
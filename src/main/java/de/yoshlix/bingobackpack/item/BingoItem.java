@@ -1,5 +1,7 @@
 package de.yoshlix.bingobackpack.item;
 
+import de.yoshlix.bingobackpack.BingoCustomData;
+import de.yoshlix.bingobackpack.ModConfig;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.network.chat.Component;
@@ -7,8 +9,6 @@ import net.minecraft.network.chat.Style;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.item.component.CustomData;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.component.ItemLore;
 
 import java.util.ArrayList;
@@ -33,6 +33,11 @@ public abstract class BingoItem {
 
     public static final String NBT_KEY = "BingoItemId";
 
+    // Fully built stack that createItemStack copies; never handed out.
+    // Tied to the config instance it was built from, since lore reads config values.
+    private ItemStack prototype;
+    private ModConfig prototypeConfig;
+
     /**
      * Unique identifier for this item type.
      * Used for NBT storage and registry lookup.
@@ -107,7 +112,17 @@ public abstract class BingoItem {
      * Create an ItemStack with a specific count.
      */
     public ItemStack createItemStack(int count) {
-        ItemStack stack = new ItemStack(Items.PAPER, count);
+        ModConfig config = ModConfig.getInstance();
+        if (prototype == null || prototypeConfig != config) {
+            prototype = buildItemStack();
+            prototypeConfig = config;
+        }
+        return prototype.copyWithCount(count);
+    }
+
+    // Uncached build, package-private for the jmh benchmarks
+    ItemStack buildItemStack() {
+        ItemStack stack = new ItemStack(Items.PAPER);
 
         // Set custom name with rarity color
         Component displayName = Component.literal(getName())
@@ -151,9 +166,7 @@ public abstract class BingoItem {
         stack.set(DataComponents.LORE, new ItemLore(loreList));
 
         // Store item ID in NBT
-        CompoundTag tag = new CompoundTag();
-        tag.putString(NBT_KEY, getId());
-        stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        BingoCustomData.setBingoItemId(stack, getId());
 
         return stack;
     }
@@ -166,13 +179,7 @@ public abstract class BingoItem {
             return false;
         }
 
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
-            return false;
-        }
-
-        CompoundTag tag = customData.copyTag();
-        return tag.contains(NBT_KEY) && tag.getString(NBT_KEY).orElse("").equals(getId());
+        return getId().equals(BingoCustomData.getBingoItemId(stack));
     }
 
     /**
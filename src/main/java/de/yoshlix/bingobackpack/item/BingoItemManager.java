@@ -2,12 +2,16 @@ package de.yoshlix.bingobackpack.item;
 
 import de.yoshlix.bingobackpack.BingoBackpack;
 import de.yoshlix.bingobackpack.ModConfig;
+import de.yoshlix.bingobackpack.PlayerStateIndex;
 import de.yoshlix.bingobackpack.item.items.Lockdown;
+import de.yoshlix.bingobackpack.jfr.DropRollEvent;
+import de.yoshlix.bingobackpack.jfr.ItemUseEvent;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.monster.Monster;
@@ -15,6 +19,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
@@ -36,6 +41,14 @@ public class BingoItemManager {
     // Cooldown tracking for mob drops
     private final Map<UUID, Long> lastDropTime = new HashMap<>();
 
+    // Monster health bonus (max health / 20, capped at 2x) in steps of 0.1
+    private static final int HEALTH_BONUS_STEPS = 10;
+    private static final double MAX_HEALTH_BONUS = 2.0;
+
+    // Drop tables, rebuilt when the drop chances change
+    private DropTable passiveDropTable;
+    private DropTable[] monsterDropTables;
+
     public static BingoItemManager getInstance() {
         if (instance == null) {
             instance = new BingoItemManager();
@@ -62,15 +75,30 @@ public class BingoItemManager {
 
         BingoItem item = itemOpt.get();
 
+        ItemUseEvent event = new ItemUseEvent();
+        event.begin();
+        boolean consumed = useItem(player, item);
+        if (event.shouldCommit()) {
+            event.item = item.getId();
+            event.player = player.getName().getString();
+            event.consumed = consumed;
+            event.commit();
+        }
+        return consumed;
+    }
+
+    private boolean useItem(ServerPlayer player, BingoItem item) {
+        int state = PlayerStateIndex.getInstance().getFlags(player);
+
         // Check if player is banished
-        if (de.yoshlix.bingobackpack.banish.BanishManager.getInstance().isBanished(player)) {
+        if ((state & PlayerStateIndex.BANISHED) != 0) {
             player.sendSystemMessage(
                     Component.literal("§4§lVERBANNT! §r§cDu kannst keine Items verwenden, während du verbannt bist!"));
             return false;
         }
 
         // Check if player is locked down
-        if (Lockdown.isLocked(player.getUUID())) {
+        if ((state & PlayerStateIndex.LOCKED) != 0) {
             int remaining = Lockdown.getRemainingLockdownSeconds(player.getUUID());
             player.sendSystemMessage(
                     Component.literal("§4§l🔒 GESPERRT! §r§cDein Backpack ist noch " + remaining + "s gesperrt!"));
@@ -123,31 +151,56 @@ public class BingoItemManager {
         // Optional: Only drop from monsters
         // if (!(killedEntity instanceof Monster)) return;
 
-        // Get all droppable items and try to drop one
-        for (BingoItem item : BingoItemRegistry.getDroppableItems()) {
-            double dropChance = item.getDropChance() * globalDropChanceMultiplier;
+        if (passiveDropTable == null) {
+            rebuildDropTables();
+        }
 
-            // Bonus chance for stronger mobs
-            if (killedEntity instanceof Monster monster) {
-                double healthBonus = monster.getMaxHealth() / 20.0; // 1.0 for normal mobs
-                dropChance *= Math.min(healthBonus, 2.0); // Cap at 2x
-            }
+        // Bonus chance for stronger mobs
+        DropTable table = passiveDropTable;
+        if (killedEntity instanceof Monster monster) {
+            double healthBonus = Math.min(monster.getMaxHealth() / 20.0, MAX_HEALTH_BONUS); // 1.0 for normal mobs
+            table = monsterDropTables[(int) Math.round(healthBonus * HEALTH_BONUS_STEPS)];
+        }
 
-            if (random.nextDouble() < dropChance) {
-                dropItemAtEntity(killedEntity, item);
+        // At most one item per kill
+        DropRollEvent event = new DropRollEvent();
+        event.begin();
+        BingoItem item = table.roll(random);
+        if (event.shouldCommit()) {
+            event.entity = EntityType.getKey(killedEntity.getType()).toString();
+            event.player = serverPlayer.getName().getString();
+            event.item = item != null ? item.getId() : "";
+            event.commit();
+        }
+        if (item == null)
+            return;
 
-                // Set cooldown
-                lastDropTime.put(playerId, System.currentTimeMillis());
+        dropItemAtEntity(killedEntity, item);
 
-                // Notify player
-                serverPlayer.sendSystemMessage(
-                        Component.literal("§6Ein §" + item.getRarity().getColor().getChar() +
-                                item.getName() + " §6ist gedroppt!"));
+        // Set cooldown
+        lastDropTime.put(playerId, System.currentTimeMillis());
 
-                // Only one item per kill
-                return;
-            }
+        // Notify player
+        serverPlayer.sendSystemMessage(
+                Component.literal("§6Ein §" + item.getRarity().getColor().getChar() +
+                        item.getName() + " §6ist gedroppt!"));
+    }
+
+    /**
+     * Rebuild the drop tables from the current item drop chances, config and
+     * global multiplier. One table for non-monsters and one per monster health
+     * bonus step.
+     */
+    public void rebuildDropTables() {
+        List<BingoItem> droppable = BingoItemRegistry.getDroppableItems();
+        passiveDropTable = DropTable.build(droppable, globalDropChanceMultiplier);
+
+        DropTable[] monsterTables = new DropTable[(int) (MAX_HEALTH_BONUS * HEALTH_BONUS_STEPS) + 1];
+        for (int step = 0; step < monsterTables.length; step++) {
+            monsterTables[step] = DropTable.build(droppable,
+                    globalDropChanceMultiplier * step / HEALTH_BONUS_STEPS);
         }
+        monsterDropTables = monsterTables;
     }
 
     /**
@@ -230,6 +283,7 @@ public class BingoItemManager {
 
     public void setGlobalDropChanceMultiplier(double multiplier) {
         this.globalDropChanceMultiplier = multiplier;
+        rebuildDropTables();
     }
 
     public double getGlobalDropChanceMultiplier() {
@@ -1,12 +1,10 @@
 package de.yoshlix.bingobackpack.item;
 
 import de.yoshlix.bingobackpack.BingoBackpack;
+import de.yoshlix.bingobackpack.BingoCustomData;
 import de.yoshlix.bingobackpack.item.items.*;
-import net.minecraft.core.component.DataComponents;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.item.component.CustomData;
 
 import java.util.*;
 
@@ -136,17 +134,11 @@ public class BingoItemRegistry {
             return Optional.empty();
         }
 
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData == null) {
+        String id = BingoCustomData.getBingoItemId(stack);
+        if (id == null) {
             return Optional.empty();
         }
 
-        CompoundTag tag = customData.copyTag();
-        if (!tag.contains(BingoItem.NBT_KEY)) {
-            return Optional.empty();
-        }
-
-        String id = tag.getString(BingoItem.NBT_KEY).orElse("");
         return getById(id);
     }
 
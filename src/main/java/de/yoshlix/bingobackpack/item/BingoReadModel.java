@@ -0,0 +1,181 @@
+package de.yoshlix.bingobackpack.item;
+
+import de.yoshlix.bingobackpack.item.items.TeamShield;
+import me.jfenn.bingo.api.BingoApi;
+import me.jfenn.bingo.api.data.IBingoObjective;
+import me.jfenn.bingo.api.data.IBingoTeam;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tick-scoped view of the Bingo game: teams, their online players, the
+ * player -> team mapping and the cards.
+ *
+ * Built lazily on first use in a tick and reused by every item and the reward
+ * system for the rest of that tick. Team, connection and card changes
+ * invalidate it early (see BingoIntegration and the card items). Completion
+ * state is not copied: objectives are read live, so completing a field does
+ * not need an invalidation. Server thread only.
+ */
+public class BingoReadModel {
+    private static final ServerPlayer[] NO_PLAYERS = new ServerPlayer[0];
+
+    private static BingoReadModel current;
+    private static int currentTick = -1;
+
+    private final List<IBingoTeam> teams;
+    private final Map<String, IBingoTeam> teamsById = new HashMap<>();
+    private final Map<UUID, IBingoTeam> teamsByPlayer = new HashMap<>();
+    private final Map<String, ServerPlayer[]> onlinePlayers = new HashMap<>();
+
+    // Cards are only resolved when something asks for them
+    private boolean cardsResolved = false;
+    private BingoCardState activeCard;
+    private List<BingoCardState> allCards = Collections.emptyList();
+    private final Map<String, IBingoObjective> objectives = new HashMap<>();
+
+    /**
+     * The snapshot for the current tick, or null if no Bingo game is loaded.
+     */
+    public static BingoReadModel get(MinecraftServer server) {
+        if (current == null || currentTick != server.getTickCount()) {
+            var liveTeams = BingoApi.getTeams();
+            if (liveTeams == null) {
+                current = null;
+                return null;
+            }
+            current = new BingoReadModel(server, liveTeams);
+            currentTick = server.getTickCount();
+        }
+        return current;
+    }
+
+    /**
+     * Drop the snapshot so the next get() rebuilds it. Call after changing
+     * teams or cards.
+     */
+    public static void invalidate() {
+        current = null;
+    }
+
+    private BingoReadModel(MinecraftServer server, Iterable<? extends IBingoTeam> liveTeams) {
+        List<IBingoTeam> teamList = new ArrayList<>();
+        List<ServerPlayer> online = new ArrayList<>();
+        for (IBingoTeam team : liveTeams) {
+            teamList.add(team);
+            teamsById.put(team.getId(), team);
+
+            online.clear();
+            for (UUID playerId : team.getPlayers()) {
+                teamsByPlayer.put(playerId, team);
+                ServerPlayer player = server.getPlayerList().getPlayer(playerId);
+                if (player != null) {
+                    online.add(player);
+                }
+            }
+            onlinePlayers.put(team.getId(), online.toArray(NO_PLAYERS));
+        }
+        this.teams = Collections.unmodifiableList(teamList);
+    }
+
+    public List<IBingoTeam> getTeams() {
+        return teams;
+    }
+
+    public IBingoTeam getTeam(String teamId) {
+        return teamsById.get(teamId);
+    }
+
+    public IBingoTeam getTeamForPlayer(UUID playerId) {
+        return teamsByPlayer.get(playerId);
+    }
+
+    /**
+     * Online members of a team. The array is shared; do not modify it.
+     */
+    public ServerPlayer[] getOnlinePlayers(String teamId) {
+        return onlinePlayers.getOrDefault(teamId, NO_PLAYERS);
+    }
+
+    /**
+     * Online players of every other team that are not protected by a team
+     * shield.
+     */
+    public List<ServerPlayer> getTargetableEnemies(UUID playerId) {
+        IBingoTeam playerTeam = teamsByPlayer.get(playerId);
+        if (playerTeam == null) {
+            return Collections.emptyList();
+        }
+
+        List<ServerPlayer> enemies = new ArrayList<>();
+        for (IBingoTeam team : teams) {
+            if (team == playerTeam || TeamShield.isTeamShielded(team.getId()))
+                continue;
+            // Shields belong to teams, so a player who changed teams is judged by the new one
+            enemies.addAll(getOnlinePlayers(team.getId()));
+        }
+        return enemies;
+    }
+
+    /**
+     * Bitset view of the active card, or null if there is none.
+     */
+    public BingoCardState getActiveCard() {
+        resolveCards();
+        return activeCard;
+    }
+
+    /**
+     * Bitset views of all cards of the game.
+     */
+    public List<BingoCardState> getAllCards() {
+        resolveCards();
+        return allCards;
+    }
+
+    /**
+     * Look up an objective of any card by id.
+     */
+    public IBingoObjective getObjective(String objectiveId) {
+        resolveCards();
+        return objectives.get(objectiveId);
+    }
+
+    private void resolveCards() {
+        if (cardsResolved)
+            return;
+        cardsResolved = true;
+
+        var game = BingoApi.getGameExtended();
+        if (game == null)
+            return;
+
+        var active = game.getActiveCard();
+        if (active != null) {
+            activeCard = BingoCardState.of(active::getObjective);
+        }
+
+        var cards = game.getAllCards();
+        if (cards != null) {
+            List<BingoCardState> states = new ArrayList<>(cards.size());
+            for (var card : cards) {
+                BingoCardState state = BingoCardState.of(card::getObjective);
+                states.add(state);
+                for (int i = 0; i < BingoCardState.CELLS; i++) {
+                    IBingoObjective objective = state.get(i);
+                    if (objective != null) {
+                        objectives.putIfAbsent(objective.getId(), objective);
+                    }
+                }
+            }
+            allCards = Collections.unmodifiableList(states);
+        }
+    }
+}
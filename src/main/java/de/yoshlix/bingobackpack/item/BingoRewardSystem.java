@@ -11,6 +11,7 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Manages the reward system for Bingo Items.
@@ -23,19 +24,31 @@ import java.util.*;
  * difficulty
  */
 public class BingoRewardSystem {
+    private static final String SCORING_SERVICE = "me.jfenn.bingo.common.scoring.ScoringService";
+
     private static BingoRewardSystem instance;
 
+    /**
+     * Added to the scoring service by BingoScoringServiceMixin, so a missing
+     * hook can be detected.
+     */
+    public interface ScoringHook {
+    }
+
     private final Random random = new Random();
     private MinecraftServer server;
 
     // Tracking
     private int tickCounter = 0;
+    private int reconcileCounter = 0;
+    // Set by the scoring hooks (BingoScoringServiceMixin) and by items that change the card
+    private volatile boolean progressDirty = true;
 
     // Track completed lines per team to detect new completions
     private final Map<String, Integer> teamCompletedLines = new HashMap<>();
 
-    // Track completed objectives to detect new completions
-    private final Map<String, Set<String>> teamCompletedObjectives = new HashMap<>();
+    // Track completed fields per team as a BingoCardState mask to detect new completions
+    private final Map<String, Long> teamCompletedMasks = new HashMap<>();
 
     // Track objective count for milestone rewards
     private final Map<String, Integer> teamObjectiveCount = new HashMap<>();
@@ -53,13 +66,37 @@ public class BingoRewardSystem {
     public void init(MinecraftServer server) {
         this.server = server;
         reset();
+        checkScoringHook();
+    }
+
+    private static void checkScoringHook() {
+        try {
+            Class<?> scoringService = Class.forName(SCORING_SERVICE, false, BingoRewardSystem.class.getClassLoader());
+            if (ScoringHook.class.isAssignableFrom(scoringService))
+                return;
+            BingoBackpack.LOGGER.warn("Scoring hook was not applied to {}", SCORING_SERVICE);
+        } catch (ClassNotFoundException e) {
+            BingoBackpack.LOGGER.warn("Scoring hook target {} not found", SCORING_SERVICE);
+        }
+        BingoBackpack.LOGGER.warn("Bingo progress is only checked every {} ticks",
+                ModConfig.getInstance().bingoProgressReconcileTicks);
     }
 
     public void reset() {
         teamCompletedLines.clear();
-        teamCompletedObjectives.clear();
+        teamCompletedMasks.clear();
         teamObjectiveCount.clear();
         tickCounter = 0;
+        reconcileCounter = 0;
+        progressDirty = true;
+    }
+
+    /**
+     * Request a progress check on the next tick, e.g. after an objective was
+     * completed, uncompleted or rerolled.
+     */
+    public void markProgressDirty() {
+        progressDirty = true;
     }
 
     /**
@@ -82,8 +119,14 @@ public class BingoRewardSystem {
             checkRandomGift(server);
         }
 
-        // Check for row completions and task completions
-        checkBingoProgress(server);
+        // Check for row completions and task completions when the scoring changed,
+        // plus a periodic pass in case a completion bypassed the hooks
+        reconcileCounter++;
+        if (progressDirty || reconcileCounter >= ModConfig.getInstance().bingoProgressReconcileTicks) {
+            progressDirty = false;
+            reconcileCounter = 0;
+            checkBingoProgress(server);
+        }
     }
 
     /**
@@ -123,21 +166,21 @@ public class BingoRewardSystem {
      * Check for bingo row completions and individual task completions.
      */
     private void checkBingoProgress(MinecraftServer server) {
-        var teams = BingoApi.getTeams();
-        var gameExtended = BingoApi.getGameExtended();
-
-        if (teams == null || gameExtended == null)
+        BingoReadModel model = BingoReadModel.get(server);
+        if (model == null)
             return;
 
-        var card = gameExtended.getActiveCard();
-        if (card == null)
+        BingoCardState state = model.getActiveCard();
+        if (state == null)
             return;
 
-        for (var team : teams) {
+        for (IBingoTeam team : model.getTeams()) {
             String teamId = team.getId();
+            ProgressDiff diff = diffProgress(state, teamId, teamCompletedMasks.getOrDefault(teamId, 0L));
+            long completed = diff.completed();
 
             // Check for new row completions
-            int currentLines = card.countLines(teamId);
+            int currentLines = diff.lines();
             int previousLines = teamCompletedLines.getOrDefault(teamId, 0);
 
             if (currentLines > previousLines) {
@@ -150,35 +193,14 @@ public class BingoRewardSystem {
             }
 
             // Check for new objective completions
-            Set<String> currentCompleted = new HashSet<>();
-            for (var objective : card.getObjectives()) {
-                if (objective.hasAchieved(teamId)) {
-                    currentCompleted.add(objective.getId());
-                }
-            }
-
-            Set<String> previousCompleted = teamCompletedObjectives.getOrDefault(teamId, new HashSet<>());
-            int newCompletions = 0;
-
-            for (String objId : currentCompleted) {
-                if (!previousCompleted.contains(objId)) {
-                    // New objective completed!
-                    newCompletions++;
-                    var objective = card.getObjectives().stream()
-                            .filter(o -> o.getId().equals(objId))
-                            .findFirst()
-                            .orElse(null);
-
-                    if (objective != null) {
-                        onObjectiveCompleted(server, team, objective);
-                    }
-                }
-            }
+            forEachNewObjective(state, diff, objective -> onObjectiveCompleted(server, team, objective));
+            int newCompletions = Long.bitCount(diff.newlyCompleted());
+            int achievedCount = Long.bitCount(completed);
 
             // Check for milestone rewards (every 5 tasks)
             if (newCompletions > 0) {
                 int previousCount = teamObjectiveCount.getOrDefault(teamId, 0);
-                int newCount = currentCompleted.size();
+                int newCount = achievedCount;
 
                 // Calculate milestones crossed
                 int milestoneInterval = ModConfig.getInstance().milestoneInterval;
@@ -196,7 +218,29 @@ public class BingoRewardSystem {
                 teamObjectiveCount.put(teamId, newCount);
             }
 
-            teamCompletedObjectives.put(teamId, currentCompleted);
+            teamCompletedMasks.put(teamId, completed);
+        }
+    }
+
+    /**
+     * A team's completed fields, completed lines and the fields completed
+     * since previousMask.
+     */
+    record ProgressDiff(long completed, int lines, long newlyCompleted) {
+    }
+
+    /**
+     * The progress pass of checkBingoProgress for one team, without rewards.
+     * Package-private for BingoProgressBenchmark.
+     */
+    static ProgressDiff diffProgress(BingoCardState state, String teamId, long previousMask) {
+        long completed = state.completedMask(teamId);
+        return new ProgressDiff(completed, BingoCardState.countLines(completed), completed & ~previousMask);
+    }
+
+    static void forEachNewObjective(BingoCardState state, ProgressDiff diff, Consumer<IBingoObjective> action) {
+        for (long bits = diff.newlyCompleted(); bits != 0; bits &= bits - 1) {
+            action.accept(state.get(Long.numberOfTrailingZeros(bits)));
         }
     }
 
@@ -207,17 +251,14 @@ public class BingoRewardSystem {
     private void onRowCompleted(MinecraftServer server, IBingoTeam team) {
         BingoBackpack.LOGGER.info("Team {} completed a row!", team.getId());
 
-        for (UUID playerId : team.getPlayers()) {
-            ServerPlayer player = server.getPlayerList().getPlayer(playerId);
-            if (player != null) {
-                // Give random item up to RARE rarity
-                var item = getRandomItemUpToRarity(ItemRarity.RARE);
-                if (item != null) {
-                    BingoItemManager.getInstance().giveItem(player, item);
-                    player.sendSystemMessage(
-                            Component.literal("§a§l★ §aReihe abgeschlossen! §fDu hast §" +
-                                    item.getRarity().getColor().getChar() + item.getName() + " §ferhalten!"));
-                }
+        for (ServerPlayer player : onlineMembers(server, team)) {
+            // Give random item up to RARE rarity
+            var item = getRandomItemUpToRarity(ItemRarity.RARE);
+            if (item != null) {
+                BingoItemManager.getInstance().giveItem(player, item);
+                player.sendSystemMessage(
+                        Component.literal("§a§l★ §aReihe abgeschlossen! §fDu hast §" +
+                                item.getRarity().getColor().getChar() + item.getName() + " §ferhalten!"));
             }
         }
     }
@@ -229,17 +270,14 @@ public class BingoRewardSystem {
     private void onMilestoneReached(MinecraftServer server, IBingoTeam team, int tasksCompleted) {
         BingoBackpack.LOGGER.info("Team {} reached milestone: {} tasks completed!", team.getId(), tasksCompleted);
 
-        for (UUID playerId : team.getPlayers()) {
-            ServerPlayer player = server.getPlayerList().getPlayer(playerId);
-            if (player != null) {
-                // Give random item with rarity based on weights
-                var item = getRandomItemAnyRarity();
-                if (item != null) {
-                    BingoItemManager.getInstance().giveItem(player, item);
-                    player.sendSystemMessage(
-                            Component.literal("§d§l✦ §d" + tasksCompleted + " Aufgaben erledigt! §fDu hast §" +
-                                    item.getRarity().getColor().getChar() + item.getName() + " §ferhalten!"));
-                }
+        for (ServerPlayer player : onlineMembers(server, team)) {
+            // Give random item with rarity based on weights
+            var item = getRandomItemAnyRarity();
+            if (item != null) {
+                BingoItemManager.getInstance().giveItem(player, item);
+                player.sendSystemMessage(
+                        Component.literal("§d§l✦ §d" + tasksCompleted + " Aufgaben erledigt! §fDu hast §" +
+                                item.getRarity().getColor().getChar() + item.getName() + " §ferhalten!"));
             }
         }
 
@@ -264,18 +302,11 @@ public class BingoRewardSystem {
         ItemRarity rarity = getRandomRarityForTaskCompletion();
 
         // Give to a random team member who is online
-        List<ServerPlayer> onlinePlayers = new ArrayList<>();
-        for (UUID playerId : team.getPlayers()) {
-            ServerPlayer player = server.getPlayerList().getPlayer(playerId);
-            if (player != null) {
-                onlinePlayers.add(player);
-            }
-        }
-
-        if (onlinePlayers.isEmpty())
+        ServerPlayer[] onlinePlayers = onlineMembers(server, team);
+        if (onlinePlayers.length == 0)
             return;
 
-        ServerPlayer luckyPlayer = onlinePlayers.get(random.nextInt(onlinePlayers.size()));
+        ServerPlayer luckyPlayer = onlinePlayers[random.nextInt(onlinePlayers.length)];
 
         var items = BingoItemRegistry.getItemsByRarity(rarity);
         if (items.isEmpty()) {
@@ -296,6 +327,11 @@ public class BingoRewardSystem {
                         item.getRarity().getColor().getChar() + item.getName()));
     }
 
+    private ServerPlayer[] onlineMembers(MinecraftServer server, IBingoTeam team) {
+        BingoReadModel model = BingoReadModel.get(server);
+        return model != null ? model.getOnlinePlayers(team.getId()) : new ServerPlayer[0];
+    }
+
     /**
      * Get a random item of any rarity, weighted towards lower rarities.
      */
@@ -0,0 +1,329 @@
+package de.yoshlix.bingobackpack.item;
+
+import com.mojang.datafixers.util.Pair;
+import de.yoshlix.bingobackpack.BingoBackpack;
+import de.yoshlix.bingobackpack.ModConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.QuartPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeSource;
+import net.minecraft.world.level.biome.Climate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Coarse per-dimension biome map for the biome teleports.
+ *
+ * level.findClosestBiome3d samples the climate noise in a spiral on the
+ * server thread, up to biomeTeleportSearchRadius blocks out. The raster
+ * samples the level's BiomeSource once on a worker thread instead, every
+ * biomeRasterStep blocks at surface height around the dimension's center
+ * (spawn, spawn / 8 in the nether, 0/0 in the End). Sampling the biome
+ * source needs no chunks. Cells are indexed per biome in buckets of
+ * BUCKET x BUCKET cells, so a nearest-biome query only looks at buckets
+ * near the origin. The hit is then refined with a findClosestBiome3d call
+ * limited to one cell.
+ *
+ * Until a raster is built the full findClosestBiome3d search is used. Once it
+ * is, the raster's answer is final: the search is clipped to the raster, and
+ * biomes that do not occur at surface height (cave biomes) are not found,
+ * which matches the surface the teleports land on anyway.
+ */
+public class BiomeRaster {
+    private static final int BUCKET = 16;
+    private static final int SURFACE_Y = 64;
+
+    private static BiomeRaster instance;
+
+    private final Map<ResourceKey<Level>, Raster> rasters = new ConcurrentHashMap<>();
+    private final Map<ResourceKey<Level>, Boolean> building = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private volatile int generation = 0;
+
+    public static BiomeRaster getInstance() {
+        if (instance == null) {
+            instance = new BiomeRaster();
+        }
+        return instance;
+    }
+
+    private BiomeRaster() {
+    }
+
+    /**
+     * Drop old rasters and start sampling the overworld. Other dimensions are
+     * sampled on their first query.
+     */
+    public void init(MinecraftServer server) {
+        clear();
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "BingoBackpack-BiomeRaster");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        if (ModConfig.getInstance().biomeRasterEnabled) {
+            build(server.overworld());
+        }
+    }
+
+    /**
+     * Forget all rasters; builds still running are discarded.
+     */
+    public void clear() {
+        generation++;
+        rasters.clear();
+        building.clear();
+    }
+
+    public boolean isReady(ResourceKey<Level> dimension) {
+        return rasters.containsKey(dimension);
+    }
+
+    /**
+     * Drop-in for {@code level.findClosestBiome3d(biome, origin, radius, 32, 64)}:
+     * answered from the raster once it is ready, otherwise by the full search.
+     * Server thread only.
+     */
+    public Pair<BlockPos, Holder<Biome>> findClosestBiome(ServerLevel level, Predicate<Holder<Biome>> biome,
+            BlockPos origin, int radius) {
+        boolean enabled = ModConfig.getInstance().biomeRasterEnabled;
+        if (!enabled || !isReady(level.dimension())) {
+            if (enabled) {
+                build(level);
+            }
+            return level.findClosestBiome3d(biome, origin, radius, 32, 64);
+        }
+        return findInRaster(level, biome, origin, radius);
+    }
+
+    /**
+     * Nearest match within the raster only, or null if the raster is not
+     * ready (its build is started) or has no match within radius of the
+     * origin. Never runs the full search. Server thread only.
+     */
+    public Pair<BlockPos, Holder<Biome>> findInRaster(ServerLevel level, Predicate<Holder<Biome>> biome,
+            BlockPos origin, int radius) {
+        if (!ModConfig.getInstance().biomeRasterEnabled)
+            return null;
+        Raster raster = rasters.get(level.dimension());
+        if (raster == null) {
+            build(level);
+            return null;
+        }
+
+        Raster.Hit hit = raster.nearest(biome, origin.getX(), origin.getZ(), radius);
+        if (hit == null)
+            return null;
+
+        // Refine within the cell, the raster only knows the surface sample
+        BlockPos cell = new BlockPos(hit.x(), SURFACE_Y, hit.z());
+        Pair<BlockPos, Holder<Biome>> refined = level.findClosestBiome3d(biome, cell, raster.step, 8, 64);
+        return refined != null ? refined : Pair.of(cell, hit.biome());
+    }
+
+    private void build(ServerLevel level) {
+        ResourceKey<Level> dimension = level.dimension();
+        if (executor == null || rasters.containsKey(dimension) || building.putIfAbsent(dimension, true) != null)
+            return;
+
+        ModConfig config = ModConfig.getInstance();
+        int step = Math.max(16, config.biomeRasterStep);
+        int radius = config.biomeTeleportSearchRadius;
+        BlockPos center = center(level);
+        BiomeSource source = level.getChunkSource().getGenerator().getBiomeSource();
+        Climate.Sampler sampler = level.getChunkSource().randomState().sampler();
+        int buildGeneration = generation;
+
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            Raster raster;
+            try {
+                raster = Raster.sample(source, sampler, center, radius, step, () -> generation != buildGeneration);
+            } catch (RuntimeException e) {
+                BingoBackpack.LOGGER.error("Failed to build biome raster for {}", dimension.identifier(), e);
+                return;
+            }
+            if (raster == null || generation != buildGeneration)
+                return;
+            rasters.put(dimension, raster);
+            building.remove(dimension);
+            BingoBackpack.LOGGER.info("Biome raster for {} ready: {}x{} cells, {} biomes, {} ms",
+                    dimension.identifier(), raster.size, raster.size, raster.palette.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    private static BlockPos center(ServerLevel level) {
+        if (level.dimension() == Level.END) {
+            return BlockPos.ZERO;
+        }
+        BlockPos spawn = level.getServer().overworld().getLevelData().getRespawnData().pos();
+        return level.dimension() == Level.NETHER ? new BlockPos(spawn.getX() / 8, 0, spawn.getZ() / 8) : spawn;
+    }
+
+    /**
+     * One sampled dimension: a palette index per cell plus, per palette entry,
+     * its cells grouped by bucket (bucketStart/bucketCells, CSR layout).
+     */
+    private static final class Raster {
+        private final int minX;
+        private final int minZ;
+        private final int step;
+        private final int size;
+        private final int buckets;
+        private final List<Holder<Biome>> palette;
+        private final int[][] bucketStart;
+        private final int[][] bucketCells;
+
+        record Hit(int x, int z, Holder<Biome> biome) {
+        }
+
+        private Raster(int minX, int minZ, int step, int size, List<Holder<Biome>> palette, short[] cells) {
+            this.minX = minX;
+            this.minZ = minZ;
+            this.step = step;
+            this.size = size;
+            this.buckets = (size + BUCKET - 1) / BUCKET;
+            this.palette = palette;
+
+            int bucketCount = buckets * buckets;
+            bucketStart = new int[palette.size()][];
+            bucketCells = new int[palette.size()][];
+            int[][] counts = new int[palette.size()][bucketCount + 1];
+            for (int i = 0; i < cells.length; i++) {
+                counts[cells[i]][bucketOf(i) + 1]++;
+            }
+            for (int p = 0; p < palette.size(); p++) {
+                int[] starts = counts[p];
+                for (int b = 0; b < bucketCount; b++) {
+                    starts[b + 1] += starts[b];
+                }
+                bucketStart[p] = starts;
+                bucketCells[p] = new int[starts[bucketCount]];
+            }
+            int[][] fill = new int[palette.size()][];
+            for (int p = 0; p < palette.size(); p++) {
+                fill[p] = Arrays.copyOf(bucketStart[p], bucketCount);
+            }
+            for (int i = 0; i < cells.length; i++) {
+                int p = cells[i];
+                bucketCells[p][fill[p][bucketOf(i)]++] = i;
+            }
+        }
+
+        private int bucketOf(int cell) {
+            int cx = cell % size;
+            int cz = cell / size;
+            return (cz / BUCKET) * buckets + cx / BUCKET;
+        }
+
+        static Raster sample(BiomeSource source, Climate.Sampler sampler, BlockPos center, int radius, int step,
+                BooleanSupplier cancelled) {
+            int half = radius / step;
+            int size = 2 * half + 1;
+            int minX = center.getX() - half * step;
+            int minZ = center.getZ() - half * step;
+            int quartY = QuartPos.fromBlock(SURFACE_Y);
+
+            List<Holder<Biome>> palette = new ArrayList<>();
+            Map<Holder<Biome>, Short> paletteIndex = new HashMap<>();
+            short[] cells = new short[size * size];
+            for (int cz = 0; cz < size; cz++) {
+                if (cancelled.getAsBoolean())
+                    return null;
+                int quartZ = QuartPos.fromBlock(minZ + cz * step);
+                for (int cx = 0; cx < size; cx++) {
+                    Holder<Biome> biome = source.getNoiseBiome(QuartPos.fromBlock(minX + cx * step), quartY, quartZ,
+                            sampler);
+                    Short index = paletteIndex.get(biome);
+                    if (index == null) {
+                        index = (short) palette.size();
+                        palette.add(biome);
+                        paletteIndex.put(biome, index);
+                    }
+                    cells[cz * size + cx] = index;
+                }
+            }
+            return new Raster(minX, minZ, step, size, List.copyOf(palette), cells);
+        }
+
+        /**
+         * Nearest cell (by horizontal distance) whose biome matches, within
+         * radius blocks of the origin, or null.
+         */
+        Hit nearest(Predicate<Holder<Biome>> biome, int x, int z, int radius) {
+            List<Integer> matching = new ArrayList<>();
+            for (int p = 0; p < palette.size(); p++) {
+                if (biome.test(palette.get(p))) {
+                    matching.add(p);
+                }
+            }
+            if (matching.isEmpty())
+                return null;
+
+            int ox = Math.floorDiv(x - minX + step / 2, step);
+            int oz = Math.floorDiv(z - minZ + step / 2, step);
+            int obx = Math.clamp(Math.floorDiv(ox, BUCKET), 0, buckets - 1);
+            int obz = Math.clamp(Math.floorDiv(oz, BUCKET), 0, buckets - 1);
+            long radiusSq = (long) radius * radius;
+            long bestDist = Long.MAX_VALUE;
+            int bestCell = -1;
+            int bestPalette = -1;
+
+            int maxRing = Math.min(buckets, radius / (step * BUCKET) + 2);
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // Every cell of this ring is at least (ring - 1) buckets away
+                long minDist = (long) Math.max(0, ring - 1) * BUCKET * step;
+                if (minDist * minDist > Math.min(bestDist, radiusSq))
+                    break;
+
+                for (int bz = obz - ring; bz <= obz + ring; bz++) {
+                    if (bz < 0 || bz >= buckets)
+                        continue;
+                    boolean edgeRow = bz == obz - ring || bz == obz + ring;
+                    for (int bx = obx - ring; bx <= obx + ring; bx += edgeRow ? 1 : 2 * Math.max(ring, 1)) {
+                        if (bx < 0 || bx >= buckets)
+                            continue;
+                        int bucket = bz * buckets + bx;
+                        for (int p : matching) {
+                            int[] starts = bucketStart[p];
+                            int[] list = bucketCells[p];
+                            for (int i = starts[bucket]; i < starts[bucket + 1]; i++) {
+                                int cell = list[i];
+                                long dx = minX + (long) (cell % size) * step - x;
+                                long dz = minZ + (long) (cell / size) * step - z;
+                                long dist = dx * dx + dz * dz;
+                                if (dist < bestDist && dist <= radiusSq) {
+                                    bestDist = dist;
+                                    bestCell = cell;
+                                    bestPalette = p;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (bestCell < 0)
+                return null;
+            return new Hit(minX + (bestCell % size) * step, minZ + (bestCell / size) * step, palette.get(bestPalette));
+        }
+    }
+}
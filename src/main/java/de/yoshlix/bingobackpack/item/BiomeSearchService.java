@@ -0,0 +1,228 @@
+package de.yoshlix.bingobackpack.item;
+
+import de.yoshlix.bingobackpack.BingoBackpack;
+import de.yoshlix.bingobackpack.ModConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeSource;
+import net.minecraft.world.level.biome.Climate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Nearest-biome searches on worker threads.
+ *
+ * Runs the same search as level.findClosestBiome3d (BiomeSource with the
+ * level's climate sampler, which is thread-safe and needs no chunks) on
+ * biomeSearchThreads worker threads. Results are cached per dimension, biome
+ * and biomeSearchCellSize cell of the origin for biomeSearchCacheTtlSeconds;
+ * every search of a cell starts at the cell center, so all players in it share
+ * one result. Searches still running are shared the same way.
+ *
+ * Speculative searches (speculate) queue on the worker threads; a search the
+ * player actually chose runs on its own thread, so it never waits behind
+ * them. A speculative search nobody chose is dropped by release if it has not
+ * started yet.
+ */
+public class BiomeSearchService {
+    private static BiomeSearchService instance;
+
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private ExecutorService chosenExecutor;
+    private long nextEviction = 0;
+
+    private record Key(ResourceKey<Level> dimension, ResourceKey<Biome> biome, int cellX, int cellZ) {
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Optional<BlockPos>> result = new CompletableFuture<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final long expiresAt;
+        // Server thread only
+        private int speculations = 0;
+        private boolean queued = false;
+        private boolean chosen = false;
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * A speculative search, handed back to release.
+     */
+    public static final class Speculation {
+        private final Entry entry;
+
+        private Speculation(Entry entry) {
+            this.entry = entry;
+        }
+    }
+
+    public static BiomeSearchService getInstance() {
+        if (instance == null) {
+            instance = new BiomeSearchService();
+        }
+        return instance;
+    }
+
+    private BiomeSearchService() {
+    }
+
+    /**
+     * Nearest position of the biome within biomeTeleportSearchRadius of the
+     * origin's cell, or empty if there is none. Runs ahead of speculative
+     * searches. Completes on a worker thread; call from the server thread.
+     */
+    public CompletableFuture<Optional<BlockPos>> search(ServerLevel level, ResourceKey<Biome> biome,
+            BlockPos origin) {
+        Key key = key(level, biome, origin);
+        Entry entry = entry(level, key);
+        if (!entry.chosen && !entry.started.get()) {
+            // A speculative task may still be queued for it; whichever thread gets to it first runs it
+            chosenExecutor().execute(task(level, key, entry));
+        }
+        entry.chosen = true;
+        return entry.result;
+    }
+
+    /**
+     * Start the same search as search() in the background, in case the player
+     * chooses this biome. Pass the result to release once the choice is made.
+     */
+    public Speculation speculate(ServerLevel level, ResourceKey<Biome> biome, BlockPos origin) {
+        Key key = key(level, biome, origin);
+        Entry entry = entry(level, key);
+        entry.speculations++;
+        if (!entry.queued && !entry.chosen && !entry.started.get()) {
+            entry.queued = true;
+            executor().execute(task(level, key, entry));
+        }
+        return new Speculation(entry);
+    }
+
+    /**
+     * Drop a speculative search unless it was chosen, is shared with another
+     * speculation or is already running.
+     */
+    public void release(Speculation speculation) {
+        Entry entry = speculation.entry;
+        if (--entry.speculations > 0 || entry.chosen || entry.started.get())
+            return;
+        // Completing it makes the queued task a no-op and removes it from the cache
+        entry.result.cancel(false);
+    }
+
+    /**
+     * Forget all results; searches still running are discarded.
+     */
+    public void clear() {
+        for (Entry entry : cache.values()) {
+            entry.result.cancel(false);
+        }
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private Key key(ServerLevel level, ResourceKey<Biome> biome, BlockPos origin) {
+        int cellSize = Math.max(16, ModConfig.getInstance().biomeSearchCellSize);
+        return new Key(level.dimension(), biome, Math.floorDiv(origin.getX(), cellSize),
+                Math.floorDiv(origin.getZ(), cellSize));
+    }
+
+    /**
+     * The cached or running search for the key, or a new one that has not been
+     * submitted yet.
+     */
+    private Entry entry(ServerLevel level, Key key) {
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt > now && !entry.result.isCompletedExceptionally())
+            return entry;
+
+        Entry created = new Entry(now + ModConfig.getInstance().biomeSearchCacheTtlSeconds * 1000L);
+        cache.put(key, created);
+        created.result.whenComplete((found, error) -> {
+            if (error != null) {
+                if (!created.result.isCancelled()) {
+                    BingoBackpack.LOGGER.warn("Biome search for {} failed: {}", key.biome().identifier(),
+                            error.getMessage());
+                }
+                cache.remove(key, created);
+            }
+        });
+        return created;
+    }
+
+    private Runnable task(ServerLevel level, Key key, Entry entry) {
+        int cellSize = Math.max(16, ModConfig.getInstance().biomeSearchCellSize);
+        BlockPos center = new BlockPos(key.cellX() * cellSize + cellSize / 2, level.getSeaLevel(),
+                key.cellZ() * cellSize + cellSize / 2);
+        int radius = ModConfig.getInstance().biomeTeleportSearchRadius;
+        BiomeSource source = level.getChunkSource().getGenerator().getBiomeSource();
+        Climate.Sampler sampler = level.getChunkSource().randomState().sampler();
+        ResourceKey<Biome> biome = key.biome();
+
+        return () -> {
+            if (entry.result.isDone() || !entry.started.compareAndSet(false, true))
+                return;
+            try {
+                // Same parameters as ServerLevel.findClosestBiome3d; the level is only read for its height
+                var found = source.findClosestBiome3d(center, radius, 32, 64,
+                        (Holder<Biome> b) -> b.is(biome), sampler, level);
+                entry.result.complete(Optional.ofNullable(found).map(pair -> pair.getFirst()));
+            } catch (RuntimeException e) {
+                entry.result.completeExceptionally(e);
+            }
+        };
+    }
+
+    private void evictExpired(long now) {
+        if (now < nextEviction)
+            return;
+        nextEviction = now + 10_000;
+        cache.values().removeIf(entry -> entry.expiresAt <= now && entry.result.isDone());
+    }
+
+    private ExecutorService executor() {
+        if (executor == null) {
+            AtomicInteger counter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Math.max(1, ModConfig.getInstance().biomeSearchThreads),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "BingoBackpack-BiomeSearch-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        thread.setPriority(Thread.MIN_PRIORITY);
+                        return thread;
+                    });
+        }
+        return executor;
+    }
+
+    private ExecutorService chosenExecutor() {
+        if (chosenExecutor == null) {
+            chosenExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "BingoBackpack-BiomeSearch-Chosen");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return chosenExecutor;
+    }
+}
@@ -0,0 +1,98 @@
+package de.yoshlix.bingobackpack.item;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Precomputed mob drop table for one chance multiplier.
+ *
+ * A kill first rolls whether anything drops, with the same probability as
+ * rolling every item independently (1 - product of (1 - chance)). The item is
+ * then sampled in O(1) with Walker's alias method, weighted by its own drop
+ * chance, so registration order no longer matters.
+ */
+public final class DropTable {
+    private final BingoItem[] items;
+    private final double anyDropChance;
+    private final double[] probability;
+    private final int[] alias;
+
+    private DropTable(BingoItem[] items, double anyDropChance, double[] probability, int[] alias) {
+        this.items = items;
+        this.anyDropChance = anyDropChance;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Build a table where each item drops with {@code getDropChance() * multiplier}
+     * (capped at 1).
+     */
+    public static DropTable build(List<BingoItem> droppable, double multiplier) {
+        int n = droppable.size();
+        BingoItem[] items = droppable.toArray(new BingoItem[0]);
+        double[] weights = new double[n];
+        double total = 0;
+        double noDrop = 1.0;
+        for (int i = 0; i < n; i++) {
+            double chance = Math.min(Math.max(items[i].getDropChance() * multiplier, 0.0), 1.0);
+            weights[i] = chance;
+            total += chance;
+            noDrop *= 1.0 - chance;
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        if (total <= 0) {
+            return new DropTable(items, 0.0, probability, alias);
+        }
+
+        // Vose's variant: split scaled weights into under- and over-full columns
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Leftovers are full columns (up to rounding error)
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+
+        return new DropTable(items, 1.0 - noDrop, probability, alias);
+    }
+
+    /**
+     * Roll one kill. Returns the dropped item, or null if nothing drops.
+     */
+    public BingoItem roll(Random random) {
+        if (items.length == 0 || random.nextDouble() >= anyDropChance) {
+            return null;
+        }
+        int column = random.nextInt(items.length);
+        return random.nextDouble() < probability[column] ? items[column] : items[alias[column]];
+    }
+}
@@ -0,0 +1,210 @@
+package de.yoshlix.bingobackpack.item;
+
+import de.yoshlix.bingobackpack.BingoBackpack;
+import net.minecraft.server.MinecraftServer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Central scheduler for timed item effects, keyed on server ticks.
+ *
+ * Tasks live in a hierarchical timing wheel: 4 levels of 64 slots, where level
+ * n covers 64^n ticks per slot. A task is placed in the lowest level that can
+ * hold its delay and moves down a level whenever the level above wraps, so a
+ * tick only touches the tasks that are due. Cancelled tasks are dropped when
+ * their slot comes up.
+ *
+ * Timed items register their expiry (and periodic effects) here instead of
+ * scanning their own maps every tick. Everything runs on the server thread.
+ */
+public class EffectScheduler {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+    // 64^4 ticks, roughly 9.7 days
+    public static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * One-shot task.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run(MinecraftServer server);
+    }
+
+    /**
+     * Periodic task; returning false stops it.
+     */
+    @FunctionalInterface
+    public interface RepeatingTask {
+        boolean run(MinecraftServer server);
+    }
+
+    /**
+     * Handle to a scheduled task.
+     */
+    public static final class ScheduledTask {
+        private final Task task;
+        private final RepeatingTask repeating;
+        private final int period;
+        private long dueTick;
+        private boolean cancelled;
+
+        private ScheduledTask(long dueTick, Task task, RepeatingTask repeating, int period) {
+            this.dueTick = dueTick;
+            this.task = task;
+            this.repeating = repeating;
+            this.period = period;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public long getDueTick() {
+            return dueTick;
+        }
+    }
+
+    private static EffectScheduler instance;
+
+    @SuppressWarnings("unchecked")
+    private final List<ScheduledTask>[][] wheel = new List[LEVELS][SLOTS];
+    private long currentTick = 0;
+    private int pending = 0;
+
+    public static EffectScheduler getInstance() {
+        if (instance == null) {
+            instance = new EffectScheduler();
+        }
+        return instance;
+    }
+
+    private EffectScheduler() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[level][slot] = new ArrayList<>();
+            }
+        }
+    }
+
+    /**
+     * Ticks since the server started; the time base for all effect expiries.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Number of scheduled tasks, including cancelled ones not yet dropped.
+     */
+    public int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * Run a task after the given number of ticks (at least 1).
+     */
+    public ScheduledTask schedule(long delayTicks, Task task) {
+        ScheduledTask scheduled = new ScheduledTask(dueTick(delayTicks), task, null, 0);
+        insert(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Run a task at an absolute tick; ticks in the past run on the next tick.
+     */
+    public ScheduledTask scheduleAt(long tick, Task task) {
+        return schedule(tick - currentTick, task);
+    }
+
+    /**
+     * Run a task after initialDelayTicks and then every periodTicks until it
+     * returns false or is cancelled.
+     */
+    public ScheduledTask scheduleRepeating(long initialDelayTicks, int periodTicks, RepeatingTask task) {
+        ScheduledTask scheduled = new ScheduledTask(dueTick(initialDelayTicks), null, task, Math.max(1, periodTicks));
+        insert(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Called every server tick. Advances the wheel by one tick and runs every
+     * task that is due.
+     */
+    public void tick(MinecraftServer server) {
+        currentTick++;
+
+        // Move tasks down from every level whose slot boundary was crossed, top level first
+        int topLevel = 0;
+        while (topLevel + 1 < LEVELS && (currentTick & ((1L << (SLOT_BITS * (topLevel + 1))) - 1)) == 0) {
+            topLevel++;
+        }
+        for (int level = topLevel; level >= 1; level--) {
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+            List<ScheduledTask> tasks = takeSlot(level, slot);
+            for (ScheduledTask task : tasks) {
+                pending--;
+                if (!task.cancelled) {
+                    insert(task);
+                }
+            }
+        }
+
+        List<ScheduledTask> due = takeSlot(0, (int) (currentTick & (SLOTS - 1)));
+        for (ScheduledTask task : due) {
+            pending--;
+            if (task.cancelled)
+                continue;
+            if (task.dueTick > currentTick) {
+                // Clamped beyond the wheel's range; wait for the next pass
+                insert(task);
+                continue;
+            }
+            run(server, task);
+        }
+    }
+
+    private void run(MinecraftServer server, ScheduledTask task) {
+        try {
+            if (task.repeating == null) {
+                task.task.run(server);
+            } else if (task.repeating.run(server) && !task.cancelled) {
+                task.dueTick = currentTick + task.period;
+                insert(task);
+            }
+        } catch (Exception e) {
+            BingoBackpack.LOGGER.error("Scheduled item effect failed", e);
+        }
+    }
+
+    private long dueTick(long delayTicks) {
+        return currentTick + Math.max(1, Math.min(delayTicks, MAX_DELAY_TICKS));
+    }
+
+    private void insert(ScheduledTask task) {
+        long delay = Math.min(task.dueTick - currentTick, MAX_DELAY_TICKS);
+        long slotTick = currentTick + Math.max(0, delay);
+        int level = 0;
+        while (level + 1 < LEVELS && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((slotTick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+        wheel[level][slot].add(task);
+        pending++;
+    }
+
+    private List<ScheduledTask> takeSlot(int level, int slot) {
+        List<ScheduledTask> tasks = wheel[level][slot];
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+        wheel[level][slot] = new ArrayList<>();
+        return tasks;
+    }
+}
@@ -0,0 +1,224 @@
+package de.yoshlix.bingobackpack.item;
+
+import de.yoshlix.bingobackpack.BingoBackpack;
+import de.yoshlix.bingobackpack.ModConfig;
+import me.jfenn.bingo.api.BingoApi;
+import me.jfenn.bingo.api.data.BingoGameStatus;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Safe random teleport destinations found ahead of time, per dimension.
+ *
+ * Each tick with spare time (always in the lobby, during a game only while
+ * the average tick stays under teleportPoolMaxTickMs) a few candidates are
+ * rolled in the randomTeleportMinDistance..randomTeleportMaxDistance band
+ * around an online player of the dimension. Their chunk is requested in the
+ * background and the column is checked with TeleportSafety once it is
+ * loaded. Found positions wait in the pool until RandomTeleport takes one.
+ *
+ * The pool is cleared when the distance band changes. Entries are dropped
+ * when a player breaks one of their blocks, when they are older than
+ * teleportPoolEntryMaxAgeTicks, and when no online player of the dimension
+ * has them in their band any more. Every taken entry is checked again by
+ * TeleportPipeline before the teleport. Server thread only.
+ */
+public class TeleportDestinationPool {
+    private static final int PRUNE_INTERVAL_TICKS = 20;
+
+    private static TeleportDestinationPool instance;
+
+    private final Map<ResourceKey<Level>, List<Entry>> pools = new HashMap<>();
+    private final Random random = new Random();
+    private int inFlight = 0;
+    private int bandMin = -1;
+    private int bandMax = -1;
+    private int nextPrune = 0;
+
+    private record Entry(BlockPos pos, int foundTick) {
+    }
+
+    public static TeleportDestinationPool getInstance() {
+        if (instance == null) {
+            instance = new TeleportDestinationPool();
+        }
+        return instance;
+    }
+
+    private TeleportDestinationPool() {
+    }
+
+    /**
+     * Take a destination in the teleport distance band of the player, if one is
+     * ready. Pools hold at most teleportPoolSize entries.
+     */
+    public Optional<BlockPos> take(ServerPlayer player) {
+        List<Entry> pool = pools.get(player.level().dimension());
+        if (pool == null)
+            return Optional.empty();
+
+        ModConfig config = ModConfig.getInstance();
+        for (int i = 0; i < pool.size(); i++) {
+            BlockPos pos = pool.get(i).pos();
+            if (inBand(player, pos, config)) {
+                // Swap-remove, order does not matter
+                pool.set(i, pool.get(pool.size() - 1));
+                pool.remove(pool.size() - 1);
+                return Optional.of(pos);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Drop entries whose ground, feet or head block is at this position.
+     */
+    public void invalidate(Level level, BlockPos changed) {
+        List<Entry> pool = pools.get(level.dimension());
+        if (pool == null || pool.isEmpty())
+            return;
+        pool.removeIf(entry -> entry.pos().getX() == changed.getX() && entry.pos().getZ() == changed.getZ()
+                && Math.abs(entry.pos().getY() - changed.getY()) <= 1);
+    }
+
+    public int size(ResourceKey<Level> dimension) {
+        List<Entry> pool = pools.get(dimension);
+        return pool != null ? pool.size() : 0;
+    }
+
+    public void clear() {
+        pools.clear();
+    }
+
+    public void tick(MinecraftServer server) {
+        ModConfig config = ModConfig.getInstance();
+        if (config.teleportPoolSize <= 0 || config.randomTeleportMaxDistance <= config.randomTeleportMinDistance)
+            return;
+
+        if (bandMin != config.randomTeleportMinDistance || bandMax != config.randomTeleportMaxDistance) {
+            bandMin = config.randomTeleportMinDistance;
+            bandMax = config.randomTeleportMaxDistance;
+            pools.clear();
+        }
+
+        // Before the pools count as full, so unusable entries do not block refills
+        if (server.getTickCount() >= nextPrune) {
+            nextPrune = server.getTickCount() + PRUNE_INTERVAL_TICKS;
+            prune(server, config);
+        }
+
+        if (!hasSpareTime(server, config))
+            return;
+
+        for (int probe = 0; probe < config.teleportPoolProbesPerTick; probe++) {
+            if (inFlight >= config.teleportPoolMaxInFlight)
+                return;
+            ServerPlayer anchor = pickAnchor(server, config);
+            if (anchor == null)
+                return;
+            probe((ServerLevel) anchor.level(), anchor.getX(), anchor.getZ(), config);
+        }
+    }
+
+    private boolean hasSpareTime(MinecraftServer server, ModConfig config) {
+        var game = BingoApi.getGame();
+        if (game == null || !game.getStatus().equals(BingoGameStatus.PLAYING))
+            return true;
+        return server.getAverageTickTimeNanos() < config.teleportPoolMaxTickMs * 1_000_000L;
+    }
+
+    /**
+     * Drop entries older than teleportPoolEntryMaxAgeTicks and entries outside
+     * the band of every online player of their dimension.
+     */
+    private void prune(MinecraftServer server, ModConfig config) {
+        int now = server.getTickCount();
+        List<ServerPlayer> players = server.getPlayerList().getPlayers();
+        for (var dimensionPool : pools.entrySet()) {
+            ResourceKey<Level> dimension = dimensionPool.getKey();
+            dimensionPool.getValue().removeIf(entry -> {
+                if (config.teleportPoolEntryMaxAgeTicks > 0
+                        && now - entry.foundTick() > config.teleportPoolEntryMaxAgeTicks)
+                    return true;
+                for (ServerPlayer player : players) {
+                    if (!player.isSpectator() && player.level().dimension() == dimension
+                            && inBand(player, entry.pos(), config))
+                        return false;
+                }
+                return true;
+            });
+        }
+    }
+
+    private static boolean inBand(ServerPlayer player, BlockPos pos, ModConfig config) {
+        long minSq = (long) config.randomTeleportMinDistance * config.randomTeleportMinDistance;
+        long maxSq = (long) config.randomTeleportMaxDistance * config.randomTeleportMaxDistance;
+        double dx = pos.getX() - player.getX();
+        double dz = pos.getZ() - player.getZ();
+        double distSq = dx * dx + dz * dz;
+        return distSq >= minSq && distSq <= maxSq;
+    }
+
+    /**
+     * A random online player whose dimension still has room in its pool.
+     */
+    private ServerPlayer pickAnchor(MinecraftServer server, ModConfig config) {
+        List<ServerPlayer> players = server.getPlayerList().getPlayers();
+        if (players.isEmpty())
+            return null;
+        int start = random.nextInt(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            ServerPlayer player = players.get((start + i) % players.size());
+            if (!player.isSpectator() && size(player.level().dimension()) < config.teleportPoolSize) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    private void probe(ServerLevel level, double anchorX, double anchorZ, ModConfig config) {
+        double angle = random.nextDouble() * 2 * Math.PI;
+        int distance = config.randomTeleportMinDistance
+                + random.nextInt(config.randomTeleportMaxDistance - config.randomTeleportMinDistance);
+        int x = (int) (anchorX + Math.cos(angle) * distance);
+        int z = (int) (anchorZ + Math.sin(angle) * distance);
+
+        if (level.hasChunk(x >> 4, z >> 4)) {
+            check(level, x, z);
+            return;
+        }
+
+        inFlight++;
+        MinecraftServer server = level.getServer();
+        level.getChunkSource().getChunkFuture(x >> 4, z >> 4, ChunkStatus.FULL, true)
+                .whenComplete((chunk, error) -> server.execute(() -> {
+                    inFlight--;
+                    if (error != null) {
+                        BingoBackpack.LOGGER.debug("Teleport pool probe at {}, {} failed: {}", x, z,
+                                error.getMessage());
+                        return;
+                    }
+                    check(level, x, z);
+                }));
+    }
+
+    private void check(ServerLevel level, int x, int z) {
+        if (size(level.dimension()) >= ModConfig.getInstance().teleportPoolSize)
+            return;
+        int now = level.getServer().getTickCount();
+        TeleportSafety.findSafeSurface(level, x, z).ifPresent(pos -> pools
+                .computeIfAbsent(level.dimension(), key -> new ArrayList<>()).add(new Entry(pos, now)));
+    }
+}
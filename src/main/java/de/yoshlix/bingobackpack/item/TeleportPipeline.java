@@ -0,0 +1,273 @@
+package de.yoshlix.bingobackpack.item;
+
+import de.yoshlix.bingobackpack.BingoBackpack;
+import de.yoshlix.bingobackpack.ModConfig;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Safe teleports into terrain that may not be generated yet.
+ *
+ * TeleportSafety generates every chunk it probes on the server thread, which
+ * freezes the server for ungenerated targets. The pipeline first requests the
+ * chunks a target needs as futures from the chunk source, runs the safety
+ * scan once they are loaded and teleports on the server thread. Targets are
+ * tried in order. If none is safe, or the chunks are not ready within
+ * teleportPrepareTimeoutTicks, the failure callback runs instead. It also
+ * runs when the teleport is cancelled or the player left; for players who are
+ * offline it is queued and runs when they join again, so a consumed item is
+ * always refunded.
+ *
+ * While a teleport is being prepared the player cannot start another one.
+ * Server thread only.
+ */
+public class TeleportPipeline {
+    private static TeleportPipeline instance;
+
+    private final Map<UUID, Request> pending = new HashMap<>();
+    // Failures of players who were offline, run when they join again
+    private final Map<UUID, List<Consumer<ServerPlayer>>> offlineFailures = new HashMap<>();
+
+    /**
+     * Column to search: the exact column, or the spiral around it up to radius
+     * (see TeleportSafety.findSafeSurfaceAround).
+     */
+    public record Target(ServerLevel level, int x, int z, int radius) {
+        public static Target column(ServerLevel level, int x, int z) {
+            return new Target(level, x, z, 0);
+        }
+
+        public static Target around(ServerLevel level, BlockPos center, int radius) {
+            return new Target(level, center.getX(), center.getZ(), radius);
+        }
+    }
+
+    /**
+     * Called after the player was teleported.
+     */
+    @FunctionalInterface
+    public interface Arrival {
+        void arrived(ServerPlayer player, BlockPos pos);
+    }
+
+    /**
+     * Why a teleport did not happen.
+     */
+    public enum Reason {
+        // No target was safe
+        NOT_FOUND,
+        // The chunks were not ready within teleportPrepareTimeoutTicks
+        TIMED_OUT,
+        // Round reset or the player disconnected
+        CANCELLED
+    }
+
+    /**
+     * Called when the teleport did not happen.
+     */
+    @FunctionalInterface
+    public interface Failure {
+        void failed(ServerPlayer player, Reason reason);
+    }
+
+    private static final class Request {
+        private final UUID playerId;
+        private final Iterator<Target> targets;
+        private final Arrival arrival;
+        private final Failure failure;
+        private EffectScheduler.ScheduledTask timeout;
+        private boolean done = false;
+
+        private Request(UUID playerId, List<Target> targets, Arrival arrival, Failure failure) {
+            this.playerId = playerId;
+            this.targets = new ArrayList<>(targets).iterator();
+            this.arrival = arrival;
+            this.failure = failure;
+        }
+    }
+
+    public static TeleportPipeline getInstance() {
+        if (instance == null) {
+            instance = new TeleportPipeline();
+        }
+        return instance;
+    }
+
+    private TeleportPipeline() {
+    }
+
+    /**
+     * Failure callback for items: hands the (already consumed) item back.
+     */
+    public static Failure refund(BingoItem item, String notFoundMessage) {
+        return (player, reason) -> {
+            player.sendSystemMessage(Component.literal(switch (reason) {
+                case NOT_FOUND -> notFoundMessage + " Item wurde zurückgegeben.";
+                case TIMED_OUT -> "§cDie Teleport-Vorbereitung hat zu lange gedauert. Item wurde zurückgegeben.";
+                case CANCELLED -> "§cDein Teleport wurde abgebrochen. Item wurde zurückgegeben.";
+            }));
+            BingoItemManager.getInstance().giveItem(player, item);
+        };
+    }
+
+    /**
+     * Run queued failures when their player joins again.
+     */
+    public static void register() {
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> server
+                .execute(() -> getInstance().runOfflineFailures(handler.getPlayer())));
+    }
+
+    public boolean isPreparing(UUID playerId) {
+        return pending.containsKey(playerId);
+    }
+
+    /**
+     * Start preparing a teleport. Returns false (and tells the player) if one
+     * is already being prepared for them. Callbacks run on the server thread.
+     */
+    public boolean start(ServerPlayer player, List<Target> targets, Arrival arrival, Failure failure) {
+        if (pending.containsKey(player.getUUID())) {
+            player.sendSystemMessage(Component.literal("§cDein Teleport wird noch vorbereitet!"));
+            return false;
+        }
+
+        Request request = new Request(player.getUUID(), targets, arrival, failure);
+        pending.put(request.playerId, request);
+
+        MinecraftServer server = ((ServerLevel) player.level()).getServer();
+        request.timeout = EffectScheduler.getInstance().schedule(
+                ModConfig.getInstance().teleportPrepareTimeoutTicks, s -> timeOut(s, request));
+        next(server, request);
+        // Targets in loaded chunks (e.g. from TeleportDestinationPool) finish right away
+        if (!request.done) {
+            player.sendSystemMessage(Component.literal("§7Teleport wird vorbereitet..."));
+        }
+        return true;
+    }
+
+    /**
+     * Cancel every pending teleport (round reset). The failure callbacks run
+     * with CANCELLED.
+     */
+    public void cancelAll(MinecraftServer server) {
+        for (Request request : List.copyOf(pending.values())) {
+            fail(server, request, Reason.CANCELLED);
+        }
+    }
+
+    private void next(MinecraftServer server, Request request) {
+        if (!request.targets.hasNext()) {
+            fail(server, request, Reason.NOT_FOUND);
+            return;
+        }
+
+        Target target = request.targets.next();
+        ServerLevel level = target.level();
+        int minChunkX = (target.x() - target.radius()) >> 4;
+        int maxChunkX = (target.x() + target.radius()) >> 4;
+        int minChunkZ = (target.z() - target.radius()) >> 4;
+        int maxChunkZ = (target.z() + target.radius()) >> 4;
+
+        List<CompletableFuture<?>> chunks = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (!level.hasChunk(chunkX, chunkZ)) {
+                    chunks.add(level.getChunkSource().getChunkFuture(chunkX, chunkZ, ChunkStatus.FULL, true));
+                }
+            }
+        }
+
+        if (chunks.isEmpty()) {
+            scan(server, request, target);
+            return;
+        }
+
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) -> server.execute(() -> {
+                    if (error != null) {
+                        BingoBackpack.LOGGER.warn("Failed to load chunks for teleport target {}, {}: {}",
+                                target.x(), target.z(), error.getMessage());
+                        if (!request.done) {
+                            next(server, request);
+                        }
+                        return;
+                    }
+                    scan(server, request, target);
+                }));
+    }
+
+    private void scan(MinecraftServer server, Request request, Target target) {
+        if (request.done)
+            return;
+
+        ServerPlayer player = server.getPlayerList().getPlayer(request.playerId);
+        if (player == null) {
+            fail(server, request, Reason.CANCELLED);
+            return;
+        }
+
+        // Chunks are loaded now, so the scan does not generate anything
+        Optional<BlockPos> safePos = target.radius() > 0
+                ? TeleportSafety.findSafeSurfaceAround(target.level(),
+                        new BlockPos(target.x(), 0, target.z()), target.radius())
+                : TeleportSafety.findSafeSurface(target.level(), target.x(), target.z());
+        if (safePos.isEmpty()) {
+            next(server, request);
+            return;
+        }
+
+        finish(request);
+        BlockPos pos = safePos.get();
+        player.teleportTo(target.level(), pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5,
+                Set.of(), player.getYRot(), player.getXRot(), true);
+        request.arrival.arrived(player, pos);
+    }
+
+    private void timeOut(MinecraftServer server, Request request) {
+        if (!request.done) {
+            fail(server, request, Reason.TIMED_OUT);
+        }
+    }
+
+    private void fail(MinecraftServer server, Request request, Reason reason) {
+        finish(request);
+        ServerPlayer player = server.getPlayerList().getPlayer(request.playerId);
+        if (player != null) {
+            request.failure.failed(player, reason);
+            return;
+        }
+
+        offlineFailures.computeIfAbsent(request.playerId, id -> new ArrayList<>())
+                .add(joined -> request.failure.failed(joined, reason));
+    }
+
+    private void runOfflineFailures(ServerPlayer player) {
+        List<Consumer<ServerPlayer>> failures = offlineFailures.remove(player.getUUID());
+        if (failures != null) {
+            failures.forEach(failure -> failure.accept(player));
+        }
+    }
+
+    private void finish(Request request) {
+        request.done = true;
+        request.timeout.cancel();
+        pending.remove(request.playerId);
+    }
+}
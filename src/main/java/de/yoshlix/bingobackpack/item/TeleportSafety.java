@@ -1,6 +1,7 @@
 package de.yoshlix.bingobackpack.item;
 
 import de.yoshlix.bingobackpack.ModConfig;
+import de.yoshlix.bingobackpack.jfr.TeleportSearchEvent;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
@@ -11,12 +12,45 @@ import net.minecraft.world.level.levelgen.Heightmap;
 import java.util.Optional;
 
 public class TeleportSafety {
+    // Counters of the running search, reported by TeleportSearchEvent (server thread)
+    private static int probes;
+    private static int chunksLoaded;
 
     private TeleportSafety() {
     }
 
     public static Optional<BlockPos> findSafeSurface(ServerLevel level, int x, int z) {
-        level.getChunk(x >> 4, z >> 4);
+        TeleportSearchEvent event = startSearch();
+        return finishSearch(event, level, surfaceAt(level, x, z));
+    }
+
+    public static Optional<BlockPos> findSafeSurfaceAround(ServerLevel level, BlockPos center, int radius) {
+        TeleportSearchEvent event = startSearch();
+        return finishSearch(event, level, surfaceAround(level, center, radius));
+    }
+
+    private static TeleportSearchEvent startSearch() {
+        probes = 0;
+        chunksLoaded = 0;
+        TeleportSearchEvent event = new TeleportSearchEvent();
+        event.begin();
+        return event;
+    }
+
+    private static Optional<BlockPos> finishSearch(TeleportSearchEvent event, ServerLevel level,
+            Optional<BlockPos> result) {
+        if (event.shouldCommit()) {
+            event.dimension = level.dimension().identifier().toString();
+            event.probes = probes;
+            event.chunksLoaded = chunksLoaded;
+            event.found = result.isPresent();
+            event.commit();
+        }
+        return result;
+    }
+
+    private static Optional<BlockPos> surfaceAt(ServerLevel level, int x, int z) {
+        loadChunk(level, x, z);
 
         if (level.dimension() == Level.NETHER) {
             return findSafeNetherPosition(level, x, z);
@@ -45,26 +79,26 @@ public class TeleportSafety {
         return Optional.empty();
     }
 
-    public static Optional<BlockPos> findSafeSurfaceAround(ServerLevel level, BlockPos center, int radius) {
-        Optional<BlockPos> exact = findSafeSurface(level, center.getX(), center.getZ());
+    private static Optional<BlockPos> surfaceAround(ServerLevel level, BlockPos center, int radius) {
+        Optional<BlockPos> exact = surfaceAt(level, center.getX(), center.getZ());
         if (exact.isPresent()) {
             return exact;
         }
 
         for (int distance = 4; distance <= radius; distance += 4) {
             for (int dx = -distance; dx <= distance; dx += 4) {
-                Optional<BlockPos> north = findSafeSurface(level, center.getX() + dx, center.getZ() - distance);
+                Optional<BlockPos> north = surfaceAt(level, center.getX() + dx, center.getZ() - distance);
                 if (north.isPresent()) return north;
 
-                Optional<BlockPos> south = findSafeSurface(level, center.getX() + dx, center.getZ() + distance);
+                Optional<BlockPos> south = surfaceAt(level, center.getX() + dx, center.getZ() + distance);
                 if (south.isPresent()) return south;
             }
 
             for (int dz = -distance + 4; dz <= distance - 4; dz += 4) {
-                Optional<BlockPos> west = findSafeSurface(level, center.getX() - distance, center.getZ() + dz);
+                Optional<BlockPos> west = surfaceAt(level, center.getX() - distance, center.getZ() + dz);
                 if (west.isPresent()) return west;
 
-                Optional<BlockPos> east = findSafeSurface(level, center.getX() + distance, center.getZ() + dz);
+                Optional<BlockPos> east = surfaceAt(level, center.getX() + distance, center.getZ() + dz);
                 if (east.isPresent()) return east;
             }
         }
@@ -102,6 +136,7 @@ public class TeleportSafety {
     }
 
     private static Optional<BlockPos> safeAt(ServerLevel level, BlockPos feetPos) {
+        probes++;
         BlockPos groundPos = feetPos.below();
         BlockPos headPos = feetPos.above();
 
@@ -113,9 +148,7 @@ public class TeleportSafety {
             return Optional.empty();
         }
 
-        if (!level.isLoaded(feetPos)) {
-            level.getChunk(feetPos.getX() >> 4, feetPos.getZ() >> 4);
-        }
+        loadChunk(level, feetPos.getX(), feetPos.getZ());
 
         BlockState ground = level.getBlockState(groundPos);
         BlockState feet = level.getBlockState(feetPos);
@@ -132,6 +165,13 @@ public class TeleportSafety {
         return Optional.of(feetPos);
     }
 
+    private static void loadChunk(ServerLevel level, int x, int z) {
+        if (!level.hasChunk(x >> 4, z >> 4)) {
+            chunksLoaded++;
+            level.getChunk(x >> 4, z >> 4);
+        }
+    }
+
     private static boolean isSafeGround(ServerLevel level, BlockPos pos, BlockState state) {
         return !state.isAir()
                 && state.getFluidState().isEmpty()
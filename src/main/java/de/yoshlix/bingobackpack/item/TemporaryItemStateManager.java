@@ -27,7 +27,7 @@ public class TemporaryItemStateManager {
     }
 
     public static void clearForRoundReset(MinecraftServer server) {
-        clearGlobalState();
+        clearGlobalState(server);
 
         for (ServerPlayer player : server.getPlayerList().getPlayers()) {
             clearPlayerState(player);
@@ -35,7 +35,7 @@ public class TemporaryItemStateManager {
         }
     }
 
-    private static void clearGlobalState() {
+    private static void clearGlobalState(MinecraftServer server) {
         TeamShield.clearAllShields();
         MobPheromone.clearAllPheromones();
         Paranoia.clearAllParanoias();
@@ -50,6 +50,7 @@ public class TemporaryItemStateManager {
         ResetFieldProgress.clearPendingResets();
         SwapLocationChoice.clearPendingSwaps();
         Wildcard.clearPendingSelections();
+        TeleportPipeline.getInstance().cancelAll(server);
     }
 
     private static void clearPlayerState(ServerPlayer player) {
@@ -1,9 +1,11 @@
 package de.yoshlix.bingobackpack.item.items;
 
+import de.yoshlix.bingobackpack.item.BiomeRaster;
+import de.yoshlix.bingobackpack.item.BiomeSearchService;
 import de.yoshlix.bingobackpack.item.BingoItem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import de.yoshlix.bingobackpack.ModConfig;
-import de.yoshlix.bingobackpack.item.TeleportSafety;
+import de.yoshlix.bingobackpack.item.TeleportPipeline;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
@@ -12,6 +14,7 @@ import net.minecraft.network.chat.ClickEvent;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.HoverEvent;
 import net.minecraft.network.chat.Style;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.biome.Biome;
@@ -25,6 +28,10 @@ import java.util.*;
 public class BiomeTeleportChoice extends BingoItem {
 
     private static final Map<UUID, List<Holder<Biome>>> pendingBiomeSelections = new HashMap<>();
+    // Players whose chosen biome is still being searched off-thread
+    private static final Set<UUID> searching = new HashSet<>();
+    // Searches started for the offered biomes, released once the player chose one
+    private static final Map<UUID, List<BiomeSearchService.Speculation>> speculations = new HashMap<>();
 
     // Common biomes to show in the selection
     private static final List<String> COMMON_BIOMES = List.of(
@@ -55,6 +62,11 @@ public class BiomeTeleportChoice extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
+        if (searching.contains(player.getUUID())) {
+            player.sendSystemMessage(Component.literal("§cDein Biom wird noch gesucht!"));
+            return false;
+        }
+
         ServerLevel level = (ServerLevel) player.level();
 
         // Get biomes from registry
@@ -76,6 +88,17 @@ public class BiomeTeleportChoice extends BingoItem {
         // Store for selection
         pendingBiomeSelections.put(player.getUUID(), availableBiomes);
 
+        // Without a biome raster, search all offered biomes while the player picks one
+        releaseSpeculations(player.getUUID());
+        if (ModConfig.getInstance().biomeSearchSpeculative && !BiomeRaster.getInstance().isReady(level.dimension())) {
+            List<BiomeSearchService.Speculation> started = new ArrayList<>();
+            for (var biome : availableBiomes) {
+                biome.unwrapKey().ifPresent(key -> started
+                        .add(BiomeSearchService.getInstance().speculate(level, key, player.blockPosition())));
+            }
+            speculations.put(player.getUUID(), started);
+        }
+
         // Show selection menu
         player.sendSystemMessage(Component.literal(""));
         player.sendSystemMessage(Component.literal("§6§l═══════ Wähle ein Biom ═══════"));
@@ -111,7 +134,14 @@ public class BiomeTeleportChoice extends BingoItem {
     }
 
     public static boolean processBiomeSelection(ServerPlayer player, String selection) {
+        if (searching.contains(player.getUUID())) {
+            player.sendSystemMessage(Component.literal("§cDein Biom wird noch gesucht!"));
+            return false;
+        }
+
         List<Holder<Biome>> biomes = pendingBiomeSelections.remove(player.getUUID());
+        // Searches that already started keep running and stay cached; queued ones are dropped
+        releaseSpeculations(player.getUUID());
         if (biomes == null) {
             player.sendSystemMessage(Component.literal("§cKeine ausstehende Biom-Auswahl!"));
             return false;
@@ -136,35 +166,62 @@ public class BiomeTeleportChoice extends BingoItem {
         ServerLevel level = (ServerLevel) player.level();
         player.sendSystemMessage(Component.literal("§6Suche " + formatBiomeName(biomeName) + "..."));
 
-        // Find the biome
-        var found = level.findClosestBiome3d(
-                b -> targetBiome.unwrapKey().map(b::is).orElse(false),
-                player.blockPosition(),
-                ModConfig.getInstance().biomeTeleportSearchRadius,
-                32,
-                64);
-
-        if (found == null) {
-            player.sendSystemMessage(Component.literal("§cBiom nicht in der Nähe gefunden!"));
-            return false;
+        if (targetBiome.unwrapKey().isEmpty()) {
+            var found = BiomeRaster.getInstance().findClosestBiome(level, b -> b.equals(targetBiome),
+                    player.blockPosition(), ModConfig.getInstance().biomeTeleportSearchRadius);
+            return teleportToBiome(player, level, found != null ? Optional.of(found.getFirst()) : Optional.empty(),
+                    biomeName);
         }
 
-        BlockPos targetPos = found.getFirst();
-        Optional<BlockPos> safePos = TeleportSafety.findSafeSurfaceAround(level, targetPos, 24);
-        if (safePos.isEmpty()) {
-            player.sendSystemMessage(Component.literal("§cBiom gefunden, aber kein sicherer Landeplatz in der Nähe. Item wurde nicht verbraucht."));
-            return false;
+        var rasterHit = BiomeRaster.getInstance().findInRaster(level, b -> b.is(targetBiome.unwrapKey().get()),
+                player.blockPosition(), ModConfig.getInstance().biomeTeleportSearchRadius);
+        if (rasterHit != null) {
+            return teleportToBiome(player, level, Optional.of(rasterHit.getFirst()), biomeName);
         }
 
-        targetPos = safePos.get();
+        // Not in the raster (not built yet, or outside it): search off-thread. Usually already
+        // searched when the menu was shown, otherwise runs ahead of other searches
+        UUID playerId = player.getUUID();
+        var search = BiomeSearchService.getInstance().search(level, targetBiome.unwrapKey().get(),
+                player.blockPosition());
+        if (search.isDone() && !search.isCompletedExceptionally()) {
+            return teleportToBiome(player, level, search.join(), biomeName);
+        }
 
-        player.teleportTo(level, targetPos.getX() + 0.5, targetPos.getY(), targetPos.getZ() + 0.5,
-                java.util.Set.of(), player.getYRot(), player.getXRot(), true);
+        MinecraftServer server = level.getServer();
+        searching.add(playerId);
+        search.whenComplete((found, error) -> server.execute(() -> {
+            if (!searching.remove(playerId))
+                return; // Round reset in the meantime
+            ServerPlayer current = server.getPlayerList().getPlayer(playerId);
+            if (current == null)
+                return;
+            teleportToBiome(current, level, error != null ? Optional.empty() : found, biomeName);
+        }));
+        return true;
+    }
 
-        player.sendSystemMessage(Component.literal("§a§lWOOSH! §rDu bist jetzt in: §e" + formatBiomeName(biomeName)));
+    private static boolean teleportToBiome(ServerPlayer player, ServerLevel level, Optional<BlockPos> found,
+            String biomeName) {
+        if (found.isEmpty()) {
+            player.sendSystemMessage(Component.literal("§cBiom nicht in der Nähe gefunden!"));
+            return false;
+        }
 
-        consumeItem(player);
-        return true;
+        BlockPos targetPos = found.get();
+        // Consumed once the player has arrived
+        return TeleportPipeline.getInstance().start(player,
+                List.of(TeleportPipeline.Target.around(level, targetPos, 24)),
+                (teleported, pos) -> {
+                    teleported.sendSystemMessage(
+                            Component.literal("§a§lWOOSH! §rDu bist jetzt in: §e" + formatBiomeName(biomeName)));
+                    consumeItem(teleported);
+                },
+                (failed, reason) -> failed.sendSystemMessage(Component.literal(switch (reason) {
+                    case NOT_FOUND -> "§cBiom gefunden, aber kein sicherer Landeplatz in der Nähe.";
+                    case TIMED_OUT -> "§cDie Teleport-Vorbereitung hat zu lange gedauert.";
+                    case CANCELLED -> "§cDein Teleport wurde abgebrochen.";
+                } + " Item wurde nicht verbraucht.")));
     }
 
     private static void consumeItem(ServerPlayer player) {
@@ -179,11 +236,22 @@ public class BiomeTeleportChoice extends BingoItem {
     }
 
     public static boolean hasPendingSelection(UUID playerId) {
-        return pendingBiomeSelections.containsKey(playerId);
+        return pendingBiomeSelections.containsKey(playerId) || searching.contains(playerId);
     }
 
     public static void clearPendingSelections() {
         pendingBiomeSelections.clear();
+        searching.clear();
+        for (UUID playerId : List.copyOf(speculations.keySet())) {
+            releaseSpeculations(playerId);
+        }
+    }
+
+    private static void releaseSpeculations(UUID playerId) {
+        List<BiomeSearchService.Speculation> started = speculations.remove(playerId);
+        if (started != null) {
+            started.forEach(BiomeSearchService.getInstance()::release);
+        }
     }
 
     private static String formatBiomeName(String biomeName) {
@@ -1,9 +1,10 @@
 package de.yoshlix.bingobackpack.item.items;
 
+import de.yoshlix.bingobackpack.item.BiomeRaster;
 import de.yoshlix.bingobackpack.item.BingoItem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import de.yoshlix.bingobackpack.ModConfig;
-import de.yoshlix.bingobackpack.item.TeleportSafety;
+import de.yoshlix.bingobackpack.item.TeleportPipeline;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
@@ -14,7 +15,6 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.biome.Biome;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Random;
 
 /**
@@ -69,22 +69,18 @@ public class BiomeTeleportRandom extends BingoItem {
 
         // Find the biome
         BlockPos playerPos = player.blockPosition();
-        var found = level.findClosestBiome3d(
+        var found = BiomeRaster.getInstance().findClosestBiome(level,
                 b -> b.is(targetKey),
                 playerPos,
-                ModConfig.getInstance().biomeTeleportSearchRadius,
-                32,
-                64);
+                ModConfig.getInstance().biomeTeleportSearchRadius);
 
         if (found == null) {
             // Try to find ANY different biome
             var currentBiome = level.getBiome(playerPos);
-            found = level.findClosestBiome3d(
+            found = BiomeRaster.getInstance().findClosestBiome(level,
                     b -> !b.equals(currentBiome),
                     playerPos,
-                    ModConfig.getInstance().biomeTeleportSearchRadius,
-                    32,
-                    64);
+                    ModConfig.getInstance().biomeTeleportSearchRadius);
 
             if (found != null) {
                 targetBiome = level.getBiome(found.getFirst());
@@ -100,20 +96,12 @@ public class BiomeTeleportRandom extends BingoItem {
         }
 
         BlockPos targetPos = found.getFirst();
-        Optional<BlockPos> safePos = TeleportSafety.findSafeSurfaceAround(level, targetPos, 24);
-        if (safePos.isEmpty()) {
-            player.sendSystemMessage(Component.literal("§cBiom gefunden, aber kein sicherer Landeplatz in der Nähe. Item wurde nicht verbraucht."));
-            return false;
-        }
-
-        targetPos = safePos.get();
-
-        player.teleportTo(level, targetPos.getX() + 0.5, targetPos.getY(), targetPos.getZ() + 0.5,
-                java.util.Set.of(), player.getYRot(), player.getXRot(), true);
-
-        player.sendSystemMessage(Component.literal("§a§lWOOSH! §rDu bist jetzt in: §e" + formatBiomeName(biomeName)));
-
-        return true;
+        String foundBiomeName = formatBiomeName(biomeName);
+        return TeleportPipeline.getInstance().start(player,
+                List.of(TeleportPipeline.Target.around(level, targetPos, 24)),
+                (teleported, pos) -> teleported.sendSystemMessage(
+                        Component.literal("§a§lWOOSH! §rDu bist jetzt in: §e" + foundBiomeName)),
+                TeleportPipeline.refund(this, "§cBiom gefunden, aber kein sicherer Landeplatz in der Nähe."));
     }
 
     private String formatBiomeName(String biomeName) {
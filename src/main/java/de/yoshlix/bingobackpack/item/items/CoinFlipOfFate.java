@@ -1,6 +1,9 @@
 package de.yoshlix.bingobackpack.item.items;
 
+import de.yoshlix.bingobackpack.item.BingoCardState;
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.BingoRewardSystem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import me.jfenn.bingo.api.BingoApi;
 import me.jfenn.bingo.api.data.IBingoObjective;
@@ -44,28 +47,26 @@ public class CoinFlipOfFate extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
+        var model = BingoReadModel.get(server);
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
+        var playerTeam = model.getTeamForPlayer(player.getUUID());
         if (playerTeam == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
         }
 
         var scoringService = BingoApi.getScoringService();
-        var game = BingoApi.getGameExtended();
 
-        if (scoringService == null || game == null) {
+        if (scoringService == null) {
             player.sendSystemMessage(Component.literal("§cBingo-API nicht verfügbar!"));
             return false;
         }
 
-        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
-
         // Dramatic coin flip animation in chat
         server.getPlayerList().broadcastSystemMessage(
                 Component.literal("§6§l🪙 " + player.getName().getString() + " wirft die Münze des Schicksals... 🪙"),
@@ -87,7 +88,7 @@ public class CoinFlipOfFate extends BingoItem {
         } else {
             // Find a random enemy team
             var enemyTeams = new ArrayList<IBingoTeam>();
-            for (var team : teams) {
+            for (var team : model.getTeams()) {
                 if (!team.getId().equals(playerTeam.getId())) {
                     enemyTeams.add(team);
                 }
@@ -101,30 +102,22 @@ public class CoinFlipOfFate extends BingoItem {
             }
         }
 
-        // Find incomplete objectives for the target team
-        var incompleteObjectives = new ArrayList<IBingoObjective>();
-        var cards = game.getAllCards();
-        for (var card : cards) {
-            for (var objective : card.getObjectives()) {
-                if (!objective.hasAchieved(targetTeam.getId())) {
-                    incompleteObjectives.add(objective);
-                }
-            }
-        }
+        // Pick a random incomplete objective for the target team
+        IBingoObjective randomObjective = BingoCardState.randomOpenObjective(model.getAllCards(), targetTeam.getId(), random);
 
-        if (incompleteObjectives.isEmpty()) {
+        if (randomObjective == null) {
             player.sendSystemMessage(Component.literal("§6Keine offenen Felder für das Zielteam!"));
             return false;
         }
 
         // Complete random objective
-        var randomObjective = incompleteObjectives.get(random.nextInt(incompleteObjectives.size()));
         boolean success = scoringService.completeObjective(
                 randomObjective.getId(),
                 targetTeam.getId(),
                 player.getUUID());
 
         if (success) {
+            BingoRewardSystem.getInstance().markProgressDirty();
             String objectiveName = randomObjective.getDisplayName() != null
                     ? randomObjective.getDisplayName()
                     : randomObjective.getId();
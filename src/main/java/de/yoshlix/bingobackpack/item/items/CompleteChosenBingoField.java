@@ -1,6 +1,8 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.BingoRewardSystem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import me.jfenn.bingo.api.BingoApi;
 import me.jfenn.bingo.api.data.IBingoObjective;
@@ -48,36 +50,29 @@ public class CompleteChosenBingoField extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
+        var model = BingoReadModel.get(server);
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
+        var playerTeam = model.getTeamForPlayer(player.getUUID());
         if (playerTeam == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
         }
 
-        var game = BingoApi.getGameExtended();
-        if (game == null) {
-            player.sendSystemMessage(Component.literal("§cBingo-API nicht verfügbar!"));
-            return false;
-        }
-
-        var card = game.getActiveCard();
-        if (card == null) {
+        var state = model.getActiveCard();
+        if (state == null) {
             player.sendSystemMessage(Component.literal("§cKeine Bingo-Karte vorhanden!"));
             return false;
         }
 
         // Get incomplete objectives
         var incompleteObjectives = new ArrayList<IBingoObjective>();
-        for (var objective : card.getObjectives()) {
-            if (!objective.hasAchieved(playerTeam.getId())) {
-                incompleteObjectives.add(objective);
-            }
+        for (long bits = state.openMask(state.completedMask(playerTeam.getId())); bits != 0; bits &= bits - 1) {
+            incompleteObjectives.add(state.get(Long.numberOfTrailingZeros(bits)));
         }
 
         if (incompleteObjectives.isEmpty()) {
@@ -164,6 +159,7 @@ public class CompleteChosenBingoField extends BingoItem {
                 player.getUUID());
 
         if (success) {
+            BingoRewardSystem.getInstance().markProgressDirty();
             String name = selectedObjective.getDisplayName() != null ? selectedObjective.getDisplayName()
                     : selectedObjective.getId();
             player.sendSystemMessage(Component.literal("§a✓ Feld abgeschlossen: §f" + name));
@@ -1,6 +1,9 @@
 package de.yoshlix.bingobackpack.item.items;
 
+import de.yoshlix.bingobackpack.item.BingoCardState;
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.BingoRewardSystem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import me.jfenn.bingo.api.BingoApi;
 import net.minecraft.network.chat.Component;
@@ -58,13 +61,14 @@ public class CompleteRandomBingoField extends BingoItem {
     @Override
     public boolean onUse(ServerPlayer player) {
         // Get the player's team
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
+        var model = BingoReadModel.get(server);
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
+        var playerTeam = model.getTeamForPlayer(player.getUUID());
         if (playerTeam == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
@@ -72,45 +76,34 @@ public class CompleteRandomBingoField extends BingoItem {
 
         // Get card service for scoring manipulation
         var scoringService = BingoApi.getScoringService();
-        var game = BingoApi.getGameExtended(); // Use extended game interface
 
-        if (scoringService == null || game == null) {
+        if (scoringService == null) {
             player.sendSystemMessage(Component.literal("§cBingo-API nicht verfügbar!"));
             return false;
         }
 
         // Get all incomplete objectives from the cards
-        var cards = game.getAllCards();
-        if (cards.isEmpty()) {
+        var states = model.getAllCards();
+        if (states.isEmpty()) {
             player.sendSystemMessage(Component.literal("§cKeine Bingo-Karten vorhanden!"));
             return false;
         }
 
-        // Find a random incomplete objective for this team
-        var incompleteObjectives = new java.util.ArrayList<me.jfenn.bingo.api.data.IBingoObjective>();
-        for (var card : cards) {
-            for (var objective : card.getObjectives()) {
-                if (!objective.hasAchieved(playerTeam.getId())) {
-                    incompleteObjectives.add(objective);
-                }
-            }
-        }
+        // Select a random incomplete objective for this team and complete it
+        var randomObjective = BingoCardState.randomOpenObjective(states, playerTeam.getId(), new java.util.Random());
 
-        if (incompleteObjectives.isEmpty()) {
+        if (randomObjective == null) {
             player.sendSystemMessage(Component.literal("§6Alle Felder wurden bereits abgeschlossen!"));
             return false;
         }
 
-        // Select a random objective and complete it
-        var random = new java.util.Random();
-        var randomObjective = incompleteObjectives.get(random.nextInt(incompleteObjectives.size()));
-
         boolean success = scoringService.completeObjective(
                 randomObjective.getId(),
                 playerTeam.getId(),
                 player.getUUID());
 
         if (success) {
+            BingoRewardSystem.getInstance().markProgressDirty();
             String objectiveName = randomObjective.getDisplayName() != null
                     ? randomObjective.getDisplayName()
                     : randomObjective.getId();
@@ -1,9 +1,9 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import de.yoshlix.bingobackpack.ModConfig;
-import me.jfenn.bingo.api.BingoApi;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
@@ -12,7 +12,6 @@ import net.minecraft.world.item.ItemStack;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.UUID;
 
 /**
  * Deletes a random number of items from a random enemy player's inventory.
@@ -44,38 +43,20 @@ public class DeleteEnemyItems extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
+        var model = BingoReadModel.get(server);
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
-        if (playerTeam == null) {
+        if (model.getTeamForPlayer(player.getUUID()) == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
         }
 
         // Find all online enemy players (excluding shielded ones)
-        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
-        var enemyPlayers = new ArrayList<ServerPlayer>();
-
-        for (var team : teams) {
-            if (team.getId().equals(playerTeam.getId()))
-                continue;
-
-            // Skip if the entire team is shielded
-            if (TeamShield.isTeamShielded(team.getId())) {
-                continue;
-            }
-
-            for (UUID memberId : team.getPlayers()) {
-                ServerPlayer enemy = server.getPlayerList().getPlayer(memberId);
-                if (enemy != null && !TeamShield.isPlayerShielded(memberId)) {
-                    enemyPlayers.add(enemy);
-                }
-            }
-        }
+        var enemyPlayers = model.getTargetableEnemies(player.getUUID());
 
         if (enemyPlayers.isEmpty()) {
             player.sendSystemMessage(Component.literal("§6Keine gegnerischen Spieler online! (Oder alle geschützt)"));
@@ -1,8 +1,10 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.EffectScheduler;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import de.yoshlix.bingobackpack.ModConfig;
+import de.yoshlix.bingobackpack.PlayerStateIndex;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.game.ClientboundSetSubtitleTextPacket;
@@ -20,6 +22,7 @@ public class Flight5Min extends BingoItem {
 
     private static final Map<UUID, Long> flightEndTimes = new HashMap<>();
     private static final Set<UUID> flightWarningSent = new HashSet<>();
+    private static final long WARNING_TICKS = 10 * 20L;
 
     @Override
     public String getId() {
@@ -48,8 +51,10 @@ public class Flight5Min extends BingoItem {
         abilities.flying = true;
         player.onUpdateAbilities();
 
+        long now = EffectScheduler.getInstance().getCurrentTick();
+
         // Stack flight time if already has flight
-        long additionalTime = ModConfig.getInstance().flightDuration5Min * 1000L;
+        long additionalTime = ModConfig.getInstance().flightDuration5Min * 20L;
         long newEndTime;
         Long existingEndTime = flightEndTimes.get(player.getUUID());
 
@@ -57,7 +62,7 @@ public class Flight5Min extends BingoItem {
         Long flight1EndTime = Flight1Min.getFlightEndTime(player.getUUID());
         Long flight15EndTime = Flight15Min.getFlightEndTime(player.getUUID());
 
-        long currentMaxEndTime = System.currentTimeMillis();
+        long currentMaxEndTime = now;
         if (existingEndTime != null && existingEndTime > currentMaxEndTime) {
             currentMaxEndTime = existingEndTime;
         }
@@ -68,25 +73,27 @@ public class Flight5Min extends BingoItem {
             currentMaxEndTime = flight15EndTime;
         }
 
-        if (currentMaxEndTime > System.currentTimeMillis()) {
+        if (currentMaxEndTime > now) {
             // Stack time on top of existing flight
             newEndTime = currentMaxEndTime + additionalTime;
         } else {
-            newEndTime = System.currentTimeMillis() + additionalTime;
+            newEndTime = now + additionalTime;
         }
 
         // Clear other flight maps and consolidate to this one
         Flight1Min.clearFlightTime(player.getUUID());
         Flight15Min.clearFlightTime(player.getUUID());
         flightEndTimes.put(player.getUUID(), newEndTime);
+        PlayerStateIndex.getInstance().setUntil(player.getUUID(), PlayerStateIndex.FLYING, newEndTime);
         flightWarningSent.remove(player.getUUID());
+        scheduleExpiry(player.getUUID(), newEndTime);
 
-        int totalSeconds = (int) ((newEndTime - System.currentTimeMillis()) / 1000);
+        int totalSeconds = (int) ((newEndTime - now) / 20);
         int minutes = totalSeconds / 60;
         int seconds = totalSeconds % 60;
         String timeStr = minutes > 0 ? minutes + " Min " + seconds + " Sek" : totalSeconds + " Sekunden";
 
-        boolean wasStacked = currentMaxEndTime > System.currentTimeMillis();
+        boolean wasStacked = currentMaxEndTime > now;
         player.sendSystemMessage(Component.literal("§b§l✈ §rFlug für " + timeStr + "! " +
                 (wasStacked ? "§e(gestackt!)" : "")));
         player.sendSystemMessage(Component.literal("§7Doppelsprung zum Starten!"));
@@ -94,37 +101,41 @@ public class Flight5Min extends BingoItem {
         return true;
     }
 
-    public static void tickFlightExpiry(net.minecraft.server.MinecraftServer server) {
-        if (flightEndTimes.isEmpty())
-            return;
-
-        long now = System.currentTimeMillis();
-        var iterator = flightEndTimes.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            var entry = iterator.next();
-            long remainingMillis = entry.getValue() - now;
-            if (remainingMillis <= 10_000L && remainingMillis > 0 && flightWarningSent.add(entry.getKey())) {
-                ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
+    /**
+     * Schedule the 10 second warning and the expiry. Tasks from an earlier use
+     * see a different end tick and do nothing.
+     */
+    private static void scheduleExpiry(UUID playerId, long endTick) {
+        EffectScheduler scheduler = EffectScheduler.getInstance();
+        scheduler.scheduleAt(endTick - WARNING_TICKS, server -> {
+            if (isCurrentEnd(playerId, endTick) && flightWarningSent.add(playerId)) {
+                ServerPlayer player = server.getPlayerList().getPlayer(playerId);
                 if (player != null) {
                     sendFlightWarning(player);
                 }
             }
-
-            if (now >= entry.getValue()) {
-                ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
-                if (player != null && !player.isCreative() && !player.isSpectator()) {
-                    Abilities abilities = player.getAbilities();
-                    abilities.mayfly = false;
-                    abilities.flying = false;
-                    player.onUpdateAbilities();
-
-                    player.sendSystemMessage(Component.literal("§c§l✈ §rDeine Flugfähigkeit ist abgelaufen!"));
-                }
-                flightWarningSent.remove(entry.getKey());
-                iterator.remove();
+        });
+        scheduler.scheduleAt(endTick, server -> {
+            if (!isCurrentEnd(playerId, endTick))
+                return;
+
+            ServerPlayer player = server.getPlayerList().getPlayer(playerId);
+            if (player != null && !player.isCreative() && !player.isSpectator()) {
+                Abilities abilities = player.getAbilities();
+                abilities.mayfly = false;
+                abilities.flying = false;
+                player.onUpdateAbilities();
+
+                player.sendSystemMessage(Component.literal("§c§l✈ §rDeine Flugfähigkeit ist abgelaufen!"));
             }
-        }
+            flightWarningSent.remove(playerId);
+            flightEndTimes.remove(playerId);
+        });
+    }
+
+    private static boolean isCurrentEnd(UUID playerId, long endTick) {
+        Long current = flightEndTimes.get(playerId);
+        return current != null && current == endTick;
     }
 
     private static void sendFlightWarning(ServerPlayer player) {
@@ -136,7 +147,7 @@ public class Flight5Min extends BingoItem {
 
     public static boolean hasTemporaryFlight(UUID playerId) {
         Long endTime = flightEndTimes.get(playerId);
-        return endTime != null && System.currentTimeMillis() < endTime;
+        return endTime != null && EffectScheduler.getInstance().getCurrentTick() < endTime;
     }
 
     /**
@@ -153,11 +164,13 @@ public class Flight5Min extends BingoItem {
     public static void clearFlightTime(UUID playerId) {
         flightEndTimes.remove(playerId);
         flightWarningSent.remove(playerId);
+        PlayerStateIndex.getInstance().clear(playerId, PlayerStateIndex.FLYING);
     }
 
     public static void clearAllFlightTimes() {
         flightEndTimes.clear();
         flightWarningSent.clear();
+        PlayerStateIndex.getInstance().clearAll(PlayerStateIndex.FLYING);
     }
 
     @Override
@@ -1,8 +1,8 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
 import de.yoshlix.bingobackpack.item.ItemRarity;
-import me.jfenn.bingo.api.BingoApi;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
@@ -11,7 +11,6 @@ import net.minecraft.world.item.ItemStack;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.UUID;
 
 /**
  * Swaps the entire inventory with a random enemy player.
@@ -42,38 +41,20 @@ public class InventorySwap extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
+        var model = BingoReadModel.get(server);
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
-        if (playerTeam == null) {
+        if (model.getTeamForPlayer(player.getUUID()) == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
         }
 
         // Find all online enemy players (excluding shielded ones)
-        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
-        var enemyPlayers = new ArrayList<ServerPlayer>();
-
-        for (var team : teams) {
-            if (team.getId().equals(playerTeam.getId()))
-                continue;
-
-            // Skip if the entire team is shielded
-            if (TeamShield.isTeamShielded(team.getId())) {
-                continue;
-            }
-
-            for (UUID memberId : team.getPlayers()) {
-                ServerPlayer enemy = server.getPlayerList().getPlayer(memberId);
-                if (enemy != null && !TeamShield.isPlayerShielded(memberId)) {
-                    enemyPlayers.add(enemy);
-                }
-            }
-        }
+        var enemyPlayers = model.getTargetableEnemies(player.getUUID());
 
         if (enemyPlayers.isEmpty()) {
             player.sendSystemMessage(Component.literal("§6Keine gegnerischen Spieler online! (Oder alle geschützt)"));
@@ -1,20 +1,18 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import de.yoshlix.bingobackpack.ModConfig;
 import de.yoshlix.bingobackpack.BingoBackpack;
-import me.jfenn.bingo.api.BingoApi;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.UUID;
 
 public class LevitationDart extends BingoItem {
 
@@ -42,41 +40,21 @@ public class LevitationDart extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        if (!(player.level() instanceof ServerLevel serverLevel))
+            return false;
+        var model = BingoReadModel.get(serverLevel.getServer());
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
-        if (playerTeam == null) {
+        if (model.getTeamForPlayer(player.getUUID()) == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
         }
 
         // Find targets
-        List<ServerPlayer> enemies = new ArrayList<>();
-        if (!(player.level() instanceof ServerLevel serverLevel))
-            return false;
-        var server = serverLevel.getServer();
-
-        for (var team : teams) {
-            if (team.getId().equals(playerTeam.getId()))
-                continue;
-
-            if (TeamShield.isTeamShielded(team.getId()))
-                continue;
-
-            for (UUID memberId : team.getPlayers()) {
-                if (TeamShield.isPlayerShielded(memberId))
-                    continue;
-
-                ServerPlayer enemy = server.getPlayerList().getPlayer(memberId);
-                if (enemy != null) {
-                    enemies.add(enemy);
-                }
-            }
-        }
+        List<ServerPlayer> enemies = model.getTargetableEnemies(player.getUUID());
 
         if (enemies.isEmpty()) {
             player.sendSystemMessage(Component.literal("§cKeine angreifbaren Gegner gefunden!"));
@@ -1,9 +1,11 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.EffectScheduler;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import de.yoshlix.bingobackpack.ModConfig;
-import me.jfenn.bingo.api.BingoApi;
+import de.yoshlix.bingobackpack.PlayerStateIndex;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.ClickEvent;
 import net.minecraft.network.chat.Component;
@@ -45,38 +47,21 @@ public class Lockdown extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
+        var model = BingoReadModel.get(server);
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
-        if (playerTeam == null) {
+        if (model.getTeamForPlayer(player.getUUID()) == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
         }
 
-        // Find all online enemy players (excluding already locked ones)
-        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
-        var enemyPlayers = new ArrayList<ServerPlayer>();
-
-        for (var team : teams) {
-            if (team.getId().equals(playerTeam.getId()))
-                continue;
-
-            // Skip shielded teams
-            if (TeamShield.isTeamShielded(team.getId())) {
-                continue;
-            }
-
-            for (UUID memberId : team.getPlayers()) {
-                ServerPlayer enemy = server.getPlayerList().getPlayer(memberId);
-                if (enemy != null && !isLocked(enemy.getUUID()) && !TeamShield.isPlayerShielded(memberId)) {
-                    enemyPlayers.add(enemy);
-                }
-            }
-        }
+        // Find all online enemy players (excluding shielded and already locked ones)
+        var enemyPlayers = model.getTargetableEnemies(player.getUUID());
+        enemyPlayers.removeIf(enemy -> isLocked(enemy.getUUID()));
 
         if (enemyPlayers.isEmpty()) {
             player.sendSystemMessage(
@@ -205,8 +190,13 @@ public class Lockdown extends BingoItem {
     }
 
     private static void applyLockdown(ServerPlayer player) {
-        long endTime = System.currentTimeMillis() + (ModConfig.getInstance().lockdownDurationSeconds * 1000L);
-        lockedPlayers.put(player.getUUID(), endTime);
+        long endTime = EffectScheduler.getInstance().getCurrentTick()
+                + ModConfig.getInstance().lockdownDurationSeconds * 20L;
+        UUID targetId = player.getUUID();
+        lockedPlayers.put(targetId, endTime);
+        PlayerStateIndex.getInstance().setUntil(targetId, PlayerStateIndex.LOCKED, endTime);
+        // Drop the entry once it expires, unless the lockdown was renewed or cleared meanwhile
+        EffectScheduler.getInstance().scheduleAt(endTime, server -> lockedPlayers.remove(targetId, endTime));
         player.closeContainer();
     }
 
@@ -225,15 +215,7 @@ public class Lockdown extends BingoItem {
      * Check if a player is currently locked.
      */
     public static boolean isLocked(UUID playerId) {
-        Long endTime = lockedPlayers.get(playerId);
-        if (endTime == null)
-            return false;
-
-        if (System.currentTimeMillis() >= endTime) {
-            lockedPlayers.remove(playerId);
-            return false;
-        }
-        return true;
+        return PlayerStateIndex.getInstance().has(playerId, PlayerStateIndex.LOCKED);
     }
 
     /**
@@ -244,8 +226,8 @@ public class Lockdown extends BingoItem {
         if (endTime == null)
             return 0;
 
-        long remaining = endTime - System.currentTimeMillis();
-        return remaining > 0 ? (int) (remaining / 1000) : 0;
+        long remaining = endTime - EffectScheduler.getInstance().getCurrentTick();
+        return remaining > 0 ? (int) (remaining / 20) : 0;
     }
 
     /**
@@ -256,12 +238,14 @@ public class Lockdown extends BingoItem {
             return false;
         }
         lockedPlayers.remove(playerId);
+        PlayerStateIndex.getInstance().clear(playerId, PlayerStateIndex.LOCKED);
         return true;
     }
 
     public static void clearAllLockdowns() {
         pendingLockdowns.clear();
         lockedPlayers.clear();
+        PlayerStateIndex.getInstance().clearAll(PlayerStateIndex.LOCKED);
     }
 
     @Override
@@ -2,9 +2,10 @@ package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.BingoBackpack;
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.EffectScheduler;
 import de.yoshlix.bingobackpack.item.BingoItemRegistry;
 import de.yoshlix.bingobackpack.item.ItemRarity;
-import me.jfenn.bingo.api.BingoApi;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.ClickEvent;
@@ -30,6 +31,7 @@ import java.util.*;
 public class MobPheromone extends BingoItem {
 
     // Track active pheromone effects per player
+    // End time in scheduler ticks
     private static final Map<UUID, Long> activePheromones = new HashMap<>();
     private static final int DURATION_SECONDS = 120; // 2 minutes
     private static final int SPAWN_RADIUS = 30;
@@ -119,8 +121,11 @@ public class MobPheromone extends BingoItem {
         }
 
         // Activate pheromones
-        long endTime = System.currentTimeMillis() + (DURATION_SECONDS * 1000L);
-        activePheromones.put(targetPlayer.getUUID(), endTime);
+        UUID targetId = targetPlayer.getUUID();
+        long endTime = EffectScheduler.getInstance().getCurrentTick() + DURATION_SECONDS * 20L;
+        activePheromones.put(targetId, endTime);
+        EffectScheduler.getInstance().scheduleRepeating(SPAWN_INTERVAL_TICKS, SPAWN_INTERVAL_TICKS,
+                server -> tickPheromones(server, targetId, endTime));
 
         // Effects
         targetPlayer.level().playSound(null, targetPlayer.getX(), targetPlayer.getY(), targetPlayer.getZ(),
@@ -157,32 +162,14 @@ public class MobPheromone extends BingoItem {
     }
 
     private static ServerPlayer findRandomEnemy(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) return null;
-
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
-        if (playerTeam == null) return null;
-
         var server = ((ServerLevel) player.level()).getServer();
         if (server == null) return null;
 
-        List<ServerPlayer> enemies = new ArrayList<>();
-
-        for (var team : teams) {
-            if (team.getId().equals(playerTeam.getId())) continue;
+        var model = BingoReadModel.get(server);
+        if (model == null) return null;
 
-            // Check Team Shield
-            if (TeamShield.isTeamShielded(team.getId())) continue;
-
-            for (UUID memberId : team.getPlayers()) {
-                if (TeamShield.isPlayerShielded(memberId)) continue;
-                
-                ServerPlayer enemy = server.getPlayerList().getPlayer(memberId);
-                if (enemy != null && enemy.isAlive() && !enemy.isSpectator()) {
-                    enemies.add(enemy);
-                }
-            }
-        }
+        List<ServerPlayer> enemies = model.getTargetableEnemies(player.getUUID());
+        enemies.removeIf(enemy -> !enemy.isAlive() || enemy.isSpectator());
 
         if (enemies.isEmpty()) return null;
         return enemies.get(new Random().nextInt(enemies.size()));
@@ -211,44 +198,28 @@ public class MobPheromone extends BingoItem {
     }
 
     /**
-     * Called every tick to spawn mobs around players with active pheromones.
-     * Should be called from server tick event.
+     * Runs every SPAWN_INTERVAL_TICKS while the pheromones are active: spawns
+     * mobs around the player and ends the effect once it expired. Returns false
+     * to stop the repeating task.
      */
-    public static void tickPheromoneEffects(net.minecraft.server.MinecraftServer server) {
-        if (activePheromones.isEmpty())
-            return;
-
-        long currentTime = System.currentTimeMillis();
-        var expiredPlayers = new ArrayList<UUID>();
-
-        for (var entry : activePheromones.entrySet()) {
-            UUID playerId = entry.getKey();
-            long endTime = entry.getValue();
+    private static boolean tickPheromones(net.minecraft.server.MinecraftServer server, UUID playerId, long endTime) {
+        Long current = activePheromones.get(playerId);
+        if (current == null || current != endTime)
+            return false;
 
-            // Check if expired
-            if (currentTime >= endTime) {
-                expiredPlayers.add(playerId);
-                ServerPlayer player = server.getPlayerList().getPlayer(playerId);
-                if (player != null) {
-                    player.sendSystemMessage(Component.literal("§7Die Mob-Pheromone sind verflogen..."));
-                }
-                continue;
+        ServerPlayer player = server.getPlayerList().getPlayer(playerId);
+        if (EffectScheduler.getInstance().getCurrentTick() >= endTime) {
+            activePheromones.remove(playerId);
+            if (player != null) {
+                player.sendSystemMessage(Component.literal("§7Die Mob-Pheromone sind verflogen..."));
             }
+            return false;
+        }
 
-            // Get player and spawn mobs
-            ServerPlayer player = server.getPlayerList().getPlayer(playerId);
-            if (player == null)
-                continue;
-
-            // Only spawn every SPAWN_INTERVAL_TICKS
-            if (server.getTickCount() % SPAWN_INTERVAL_TICKS != 0)
-                continue;
-
+        if (player != null) {
             spawnMobsAroundPlayer(player);
         }
-
-        // Remove expired
-        expiredPlayers.forEach(activePheromones::remove);
+        return true;
     }
 
     private static void spawnMobsAroundPlayer(ServerPlayer player) {
@@ -369,19 +340,15 @@ public class MobPheromone extends BingoItem {
         Long endTime = activePheromones.get(playerId);
         if (endTime == null)
             return false;
-        if (System.currentTimeMillis() >= endTime) {
-            activePheromones.remove(playerId);
-            return false;
-        }
-        return true;
+        return EffectScheduler.getInstance().getCurrentTick() < endTime;
     }
 
     public static long getRemainingSeconds(UUID playerId) {
         Long endTime = activePheromones.get(playerId);
         if (endTime == null)
             return 0;
-        long remaining = endTime - System.currentTimeMillis();
-        return remaining > 0 ? remaining / 1000 : 0;
+        long remaining = endTime - EffectScheduler.getInstance().getCurrentTick();
+        return remaining > 0 ? remaining / 20 : 0;
     }
 
     public static void clearAllPheromones() {
@@ -2,15 +2,14 @@ package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
-import de.yoshlix.bingobackpack.item.TeleportSafety;
-import net.minecraft.core.BlockPos;
+import de.yoshlix.bingobackpack.item.TeleportPipeline;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.Level;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Random;
 
 /**
@@ -61,37 +60,18 @@ public class NetherTeleport extends BingoItem {
         int netherX = (int) (player.getX() / 8);
         int netherZ = (int) (player.getZ() / 8);
 
-        Optional<BlockPos> safePos = TeleportSafety.findSafeSurface(nether, netherX, netherZ);
-
-        if (safePos.isEmpty()) {
-            // Try a few random positions nearby
-            for (int i = 0; i < 10; i++) {
-                int offsetX = netherX + random.nextInt(32) - 16;
-                int offsetZ = netherZ + random.nextInt(32) - 16;
-                safePos = TeleportSafety.findSafeSurface(nether, offsetX, offsetZ);
-                if (safePos.isPresent()) {
-                    netherX = offsetX;
-                    netherZ = offsetZ;
-                    break;
-                }
-            }
+        // The exact spot first, then a few random positions nearby
+        List<TeleportPipeline.Target> targets = new ArrayList<>();
+        targets.add(TeleportPipeline.Target.column(nether, netherX, netherZ));
+        for (int i = 0; i < 10; i++) {
+            targets.add(TeleportPipeline.Target.column(nether,
+                    netherX + random.nextInt(32) - 16, netherZ + random.nextInt(32) - 16));
         }
 
-        if (safePos.isEmpty()) {
-            player.sendSystemMessage(Component.literal("§cKein sicherer Ort im Nether gefunden. Item wurde nicht verbraucht."));
-            return false;
-        }
-
-        BlockPos targetPos = safePos.get();
-
-        // Teleport to Nether
-        player.teleportTo(nether, targetPos.getX() + 0.5, targetPos.getY(), targetPos.getZ() + 0.5,
-                java.util.Set.of(), player.getYRot(), player.getXRot(), true);
-
-        player.sendSystemMessage(Component.literal("§c§l🔥 NETHER! §rDu wurdest in den Nether teleportiert!"));
-        player.sendSystemMessage(Component.literal("§7Position: §f" + targetPos.getX() + ", " + targetPos.getY() + ", " + targetPos.getZ()));
-
-        return true;
+        return TeleportPipeline.getInstance().start(player, targets, (teleported, targetPos) -> {
+            teleported.sendSystemMessage(Component.literal("§c§l🔥 NETHER! §rDu wurdest in den Nether teleportiert!"));
+            teleported.sendSystemMessage(Component.literal("§7Position: §f" + targetPos.getX() + ", " + targetPos.getY() + ", " + targetPos.getZ()));
+        }, TeleportPipeline.refund(this, "§cKein sicherer Ort im Nether gefunden."));
     }
 
     @Override
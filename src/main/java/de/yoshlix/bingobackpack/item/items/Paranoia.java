@@ -1,9 +1,12 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.EffectScheduler;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.game.ClientboundSoundPacket;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -16,14 +19,12 @@ import java.util.*;
  */
 public class Paranoia extends BingoItem {
 
-    // Track active paranoia effects
+    // Track active paranoia effects (end time in scheduler ticks)
     private static final Map<UUID, Long> activeParanoias = new HashMap<>();
     private static final int DURATION_SECONDS = 60;
     private static final int SOUND_INTERVAL_TICKS_MIN = 20; // 1 second
     private static final int SOUND_INTERVAL_TICKS_MAX = 100; // 5 seconds
-
-    // Track next sound time per player
-    private static final Map<UUID, Long> nextSoundTimes = new HashMap<>();
+    private static final Random SOUND_RANDOM = new Random();
 
     @Override
     public String getId() {
@@ -66,9 +67,10 @@ public class Paranoia extends BingoItem {
         }
 
         // Activate
-        long endTime = System.currentTimeMillis() + (DURATION_SECONDS * 1000L);
-        activeParanoias.put(target.getUUID(), endTime);
-        nextSoundTimes.put(target.getUUID(), System.currentTimeMillis());
+        UUID targetId = target.getUUID();
+        long endTime = EffectScheduler.getInstance().getCurrentTick() + DURATION_SECONDS * 20L;
+        activeParanoias.put(targetId, endTime);
+        EffectScheduler.getInstance().schedule(1, server -> playParanoiaSound(server, targetId, endTime));
 
         // Notify user
         player.sendSystemMessage(
@@ -82,46 +84,26 @@ public class Paranoia extends BingoItem {
     }
 
     /**
-     * Called every tick to play sounds.
+     * Plays one sound and schedules the next one at a random interval until the
+     * effect expires or is cleared.
      */
-    public static void tickParanoiaEffects(net.minecraft.server.MinecraftServer server) {
-        if (activeParanoias.isEmpty())
+    private static void playParanoiaSound(MinecraftServer server, UUID playerId, long endTime) {
+        Long current = activeParanoias.get(playerId);
+        if (current == null || current != endTime)
             return;
 
-        long currentTime = System.currentTimeMillis();
-        var expiredPlayers = new ArrayList<UUID>();
-        Random random = new Random();
-
-        for (var entry : activeParanoias.entrySet()) {
-            UUID playerId = entry.getKey();
-            long endTime = entry.getValue();
-
-            // Check if expired
-            if (currentTime >= endTime) {
-                expiredPlayers.add(playerId);
-                continue;
-            }
-
-            // Check if time for next sound
-            Long nextSound = nextSoundTimes.get(playerId);
-            if (nextSound == null || currentTime >= nextSound) {
-                ServerPlayer player = server.getPlayerList().getPlayer(playerId);
-                if (player != null) {
-                    playRandomCreepySound(player, random);
-                }
-
-                // Schedule next sound
-                long delay = (SOUND_INTERVAL_TICKS_MIN
-                        + random.nextInt(SOUND_INTERVAL_TICKS_MAX - SOUND_INTERVAL_TICKS_MIN)) * 50L;
-                nextSoundTimes.put(playerId, currentTime + delay);
-            }
+        if (EffectScheduler.getInstance().getCurrentTick() >= endTime) {
+            activeParanoias.remove(playerId);
+            return;
         }
 
-        // Cleanup
-        for (UUID uuid : expiredPlayers) {
-            activeParanoias.remove(uuid);
-            nextSoundTimes.remove(uuid);
+        ServerPlayer player = server.getPlayerList().getPlayer(playerId);
+        if (player != null) {
+            playRandomCreepySound(player, SOUND_RANDOM);
         }
+
+        int delay = SOUND_INTERVAL_TICKS_MIN + SOUND_RANDOM.nextInt(SOUND_INTERVAL_TICKS_MAX - SOUND_INTERVAL_TICKS_MIN);
+        EffectScheduler.getInstance().schedule(delay, next -> playParanoiaSound(next, playerId, endTime));
     }
 
     private static void playRandomCreepySound(ServerPlayer player, Random random) {
@@ -186,50 +168,23 @@ public class Paranoia extends BingoItem {
 
     private boolean isActive(UUID playerId) {
         Long endTime = activeParanoias.get(playerId);
-        return endTime != null && System.currentTimeMillis() < endTime;
+        return endTime != null && EffectScheduler.getInstance().getCurrentTick() < endTime;
     }
 
     public static void clearAllParanoias() {
         activeParanoias.clear();
-        nextSoundTimes.clear();
     }
 
     private List<ServerPlayer> getTargetableEnemies(ServerPlayer player) {
-        var teams = me.jfenn.bingo.api.BingoApi.getTeams();
-        if (teams == null)
-            return Collections.emptyList();
-
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
-        if (playerTeam == null)
-            return Collections.emptyList();
-
         var server = player.level().getServer();
         if (server == null)
             return Collections.emptyList();
 
-        List<ServerPlayer> enemies = new ArrayList<>();
-
-        for (var team : teams) {
-            // Skip own team
-            if (team.getId().equals(playerTeam.getId()))
-                continue;
-
-            // Skip shielded teams
-            if (TeamShield.isTeamShielded(team.getId()))
-                continue;
-
-            for (UUID memberId : team.getPlayers()) {
-                // Skip shielded players
-                if (TeamShield.isPlayerShielded(memberId))
-                    continue;
+        var model = BingoReadModel.get(server);
+        if (model == null)
+            return Collections.emptyList();
 
-                ServerPlayer enemy = server.getPlayerList().getPlayer(memberId);
-                if (enemy != null) {
-                    enemies.add(enemy);
-                }
-            }
-        }
-        return enemies;
+        return model.getTargetableEnemies(player.getUUID());
     }
 
     @Override
@@ -3,14 +3,14 @@ package de.yoshlix.bingobackpack.item.items;
 import de.yoshlix.bingobackpack.item.BingoItem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import de.yoshlix.bingobackpack.ModConfig;
-import de.yoshlix.bingobackpack.item.TeleportSafety;
-import net.minecraft.core.BlockPos;
+import de.yoshlix.bingobackpack.item.TeleportDestinationPool;
+import de.yoshlix.bingobackpack.item.TeleportPipeline;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Random;
 
 /**
@@ -44,47 +44,27 @@ public class RandomTeleport extends BingoItem {
     public boolean onUse(ServerPlayer player) {
         ServerLevel level = (ServerLevel) player.level();
 
-        // Calculate random offset
-        double angle = random.nextDouble() * 2 * Math.PI;
-        int distance = ModConfig.getInstance().randomTeleportMinDistance + random.nextInt(
-                ModConfig.getInstance().randomTeleportMaxDistance - ModConfig.getInstance().randomTeleportMinDistance);
-
-        int newX = (int) (player.getX() + Math.cos(angle) * distance);
-        int newZ = (int) (player.getZ() + Math.sin(angle) * distance);
-
-        Optional<BlockPos> safePos = TeleportSafety.findSafeSurface(level, newX, newZ);
-
-        if (safePos.isEmpty()) {
-            // Try a few more times with different positions
-            for (int i = 0; i < 10; i++) {
-                angle = random.nextDouble() * 2 * Math.PI;
-                distance = ModConfig.getInstance().randomTeleportMinDistance
-                        + random.nextInt(ModConfig.getInstance().randomTeleportMaxDistance
-                                - ModConfig.getInstance().randomTeleportMinDistance);
-                newX = (int) (player.getX() + Math.cos(angle) * distance);
-                newZ = (int) (player.getZ() + Math.sin(angle) * distance);
-
-                safePos = TeleportSafety.findSafeSurface(level, newX, newZ);
-                if (safePos.isPresent())
-                    break;
-            }
+        // A pre-validated destination first (instant while its chunk is loaded), then random
+        // offsets; the pipeline tries them in order until one is safe
+        List<TeleportPipeline.Target> targets = new ArrayList<>();
+        if (!TeleportPipeline.getInstance().isPreparing(player.getUUID())) {
+            TeleportDestinationPool.getInstance().take(player)
+                    .ifPresent(pos -> targets.add(TeleportPipeline.Target.column(level, pos.getX(), pos.getZ())));
         }
-
-        if (safePos.isEmpty()) {
-            player.sendSystemMessage(Component.literal("§cKein sicherer Teleport-Ort gefunden. Item wurde nicht verbraucht."));
-            return false;
+        for (int i = 0; i < 11; i++) {
+            double angle = random.nextDouble() * 2 * Math.PI;
+            int distance = ModConfig.getInstance().randomTeleportMinDistance + random.nextInt(
+                    ModConfig.getInstance().randomTeleportMaxDistance - ModConfig.getInstance().randomTeleportMinDistance);
+            int newX = (int) (player.getX() + Math.cos(angle) * distance);
+            int newZ = (int) (player.getZ() + Math.sin(angle) * distance);
+            targets.add(TeleportPipeline.Target.column(level, newX, newZ));
         }
 
-        BlockPos targetPos = safePos.get();
-
-        // Teleport player
-        player.teleportTo(level, targetPos.getX() + 0.5, targetPos.getY(), targetPos.getZ() + 0.5,
-                java.util.Set.of(), player.getYRot(), player.getXRot(), true);
-
-        player.sendSystemMessage(Component.literal("§a§lWOOSH! §rDu wurdest teleportiert!"));
-        player.sendSystemMessage(Component.literal("§7Neue Position: §f" + targetPos.getX() + ", " + targetPos.getY() + ", " + targetPos.getZ()));
-
-        return true;
+        // Consumed now, handed back if no safe spot turns up
+        return TeleportPipeline.getInstance().start(player, targets, (teleported, targetPos) -> {
+            teleported.sendSystemMessage(Component.literal("§a§lWOOSH! §rDu wurdest teleportiert!"));
+            teleported.sendSystemMessage(Component.literal("§7Neue Position: §f" + targetPos.getX() + ", " + targetPos.getY() + ", " + targetPos.getZ()));
+        }, TeleportPipeline.refund(this, "§cKein sicherer Teleport-Ort gefunden."));
     }
 
     @Override
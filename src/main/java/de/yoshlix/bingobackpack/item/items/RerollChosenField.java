@@ -1,6 +1,9 @@
 package de.yoshlix.bingobackpack.item.items;
 
+import de.yoshlix.bingobackpack.item.BingoCardState;
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.BingoRewardSystem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import me.jfenn.bingo.api.BingoApi;
 import me.jfenn.bingo.api.data.IBingoObjective;
@@ -46,39 +49,31 @@ public class RerollChosenField extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
+        var model = BingoReadModel.get(server);
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
+        var playerTeam = model.getTeamForPlayer(player.getUUID());
         if (playerTeam == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
         }
 
-        var game = BingoApi.getGameExtended();
-        if (game == null) {
-            player.sendSystemMessage(Component.literal("§cBingo-API nicht verfügbar!"));
-            return false;
-        }
-
-        var card = game.getActiveCard();
-        if (card == null) {
+        var state = model.getActiveCard();
+        if (state == null) {
             player.sendSystemMessage(Component.literal("§cKeine Bingo-Karte vorhanden!"));
             return false;
         }
 
         // Get rerollable objectives (not completed)
         var rerollableFields = new ArrayList<FieldInfo>();
-        for (int y = 0; y < 5; y++) {
-            for (int x = 0; x < 5; x++) {
-                var objective = card.getObjective(x, y);
-                if (objective != null && !objective.hasAchieved(playerTeam.getId())) {
-                    rerollableFields.add(new FieldInfo(x, y, objective));
-                }
-            }
+        for (long bits = state.openMask(state.completedMask(playerTeam.getId())); bits != 0; bits &= bits - 1) {
+            int index = Long.numberOfTrailingZeros(bits);
+            rerollableFields.add(new FieldInfo(index % BingoCardState.SIZE, index / BingoCardState.SIZE,
+                    state.get(index)));
         }
 
         if (rerollableFields.isEmpty()) {
@@ -154,6 +149,8 @@ public class RerollChosenField extends BingoItem {
         boolean success = cardService.rerollTile(null, field.x, field.y, java.util.Set.of());
 
         if (success) {
+            BingoReadModel.invalidate();
+            BingoRewardSystem.getInstance().markProgressDirty();
             var newCard = game.getActiveCard();
             var newObjective = newCard != null ? newCard.getObjective(field.x, field.y) : null;
             String newName = newObjective != null && newObjective.getDisplayName() != null
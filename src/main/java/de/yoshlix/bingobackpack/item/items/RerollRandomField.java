@@ -1,6 +1,8 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.BingoRewardSystem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import me.jfenn.bingo.api.BingoApi;
 import net.minecraft.network.chat.Component;
@@ -89,6 +91,8 @@ public class RerollRandomField extends BingoItem {
         boolean success = cardService.rerollTile(null, x, y, java.util.Set.of());
 
         if (success) {
+            BingoReadModel.invalidate();
+            BingoRewardSystem.getInstance().markProgressDirty();
             // Get new objective name
             var newCard = game.getActiveCard();
             var newObjective = newCard != null ? newCard.getObjective(x, y) : null;
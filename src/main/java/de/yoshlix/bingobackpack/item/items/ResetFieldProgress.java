@@ -1,6 +1,8 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.BingoRewardSystem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import me.jfenn.bingo.api.BingoApi;
 import me.jfenn.bingo.api.data.IBingoObjective;
@@ -47,26 +49,21 @@ public class ResetFieldProgress extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
+        var model = BingoReadModel.get(server);
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
+        var playerTeam = model.getTeamForPlayer(player.getUUID());
         if (playerTeam == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
         }
 
-        var game = BingoApi.getGameExtended();
-        if (game == null) {
-            player.sendSystemMessage(Component.literal("§cBingo-API nicht verfügbar!"));
-            return false;
-        }
-
-        var card = game.getActiveCard();
-        if (card == null) {
+        var state = model.getActiveCard();
+        if (state == null) {
             player.sendSystemMessage(Component.literal("§cKeine Bingo-Karte vorhanden!"));
             return false;
         }
@@ -74,14 +71,12 @@ public class ResetFieldProgress extends BingoItem {
         // Find enemy teams and their completed objectives
         var enemyCompletions = new ArrayList<EnemyCompletion>();
 
-        for (var team : teams) {
+        for (var team : model.getTeams()) {
             if (team.getId().equals(playerTeam.getId()))
                 continue; // Skip own team
 
-            for (var objective : card.getObjectives()) {
-                if (objective.hasAchieved(team.getId())) {
-                    enemyCompletions.add(new EnemyCompletion(team.getId(), objective));
-                }
+            for (long bits = state.completedMask(team.getId()); bits != 0; bits &= bits - 1) {
+                enemyCompletions.add(new EnemyCompletion(team.getId(), state.get(Long.numberOfTrailingZeros(bits))));
             }
         }
 
@@ -157,6 +152,7 @@ public class ResetFieldProgress extends BingoItem {
                 completion.teamId);
 
         if (success) {
+            BingoRewardSystem.getInstance().markProgressDirty();
             player.sendSystemMessage(Component.literal("§a✓ Fortschritt zurückgesetzt: §f" + name +
                     " §7(Team: §c" + completion.teamId + "§7)"));
 
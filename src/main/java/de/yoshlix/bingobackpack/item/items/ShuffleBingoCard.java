@@ -1,6 +1,8 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.BingoRewardSystem;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import me.jfenn.bingo.api.BingoApi;
 import net.minecraft.network.chat.Component;
@@ -55,6 +57,8 @@ public class ShuffleBingoCard extends BingoItem {
         var newCard = cardService.rerollCard(null, newSeed);
 
         if (newCard != null) {
+            BingoReadModel.invalidate();
+            BingoRewardSystem.getInstance().markProgressDirty();
             player.sendSystemMessage(Component.literal("§6§l★★★ BINGO KARTE NEU GEMISCHT! ★★★"));
 
             var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
@@ -1,6 +1,7 @@
 package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.EffectScheduler;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import de.yoshlix.bingobackpack.ModConfig;
 import me.jfenn.bingo.api.BingoApi;
@@ -19,6 +20,7 @@ import java.util.*;
 public class TeamShield extends BingoItem {
 
     // Map of team ID -> shield expiry time
+    // End time in scheduler ticks
     private static final Map<String, Long> shieldedTeams = new HashMap<>();
 
     @Override
@@ -67,8 +69,10 @@ public class TeamShield extends BingoItem {
         }
 
         // Activate shield
-        long expiryTime = System.currentTimeMillis() + (ModConfig.getInstance().teamShieldDurationSeconds * 1000L);
+        long expiryTime = EffectScheduler.getInstance().getCurrentTick()
+                + ModConfig.getInstance().teamShieldDurationSeconds * 20L;
         shieldedTeams.put(teamId, expiryTime);
+        EffectScheduler.getInstance().scheduleAt(expiryTime, server -> onShieldExpired(server, teamId, expiryTime));
 
         // Notify all team members
         var server = ((ServerLevel) player.level()).getServer();
@@ -111,16 +115,12 @@ public class TeamShield extends BingoItem {
         if (expiryTime == null)
             return false;
 
-        if (System.currentTimeMillis() >= expiryTime) {
-            shieldedTeams.remove(teamId);
-            return false;
-        }
-
-        return true;
+        return EffectScheduler.getInstance().getCurrentTick() < expiryTime;
     }
 
     /**
-     * Check if a player is protected by a team shield.
+     * Check if a player is protected by a team shield. Resolves the player's
+     * current team, so leaving a shielded team ends the protection.
      */
     public static boolean isPlayerShielded(UUID playerId) {
         var teams = BingoApi.getTeams();
@@ -142,44 +142,37 @@ public class TeamShield extends BingoItem {
         if (expiryTime == null)
             return 0;
 
-        long remaining = (expiryTime - System.currentTimeMillis()) / 1000L;
+        long remaining = (expiryTime - EffectScheduler.getInstance().getCurrentTick()) / 20L;
         return Math.max(0, remaining);
     }
 
     /**
-     * Clean up expired shields (call periodically from tick handler).
+     * Scheduled at the shield's expiry; does nothing if the shield was cleared
+     * or replaced in the meantime.
      */
-    public static void tickShieldExpiry(MinecraftServer server) {
-        long now = System.currentTimeMillis();
+    private static void onShieldExpired(MinecraftServer server, String teamId, long expiryTime) {
+        Long current = shieldedTeams.get(teamId);
+        if (current == null || current != expiryTime)
+            return;
 
-        var expired = new ArrayList<String>();
-        for (var entry : shieldedTeams.entrySet()) {
-            if (now >= entry.getValue()) {
-                expired.add(entry.getKey());
-            }
-        }
+        shieldedTeams.remove(teamId);
 
-        for (String teamId : expired) {
-            shieldedTeams.remove(teamId);
-
-            // Notify team that shield expired
-            var teams = BingoApi.getTeams();
-            if (teams != null) {
-                for (var team : teams) {
-                    if (team.getId().equals(teamId)) {
-                        for (UUID memberId : team.getPlayers()) {
-                            ServerPlayer member = server.getPlayerList().getPlayer(memberId);
-                            if (member != null) {
-                                member.sendSystemMessage(Component
-                                        .literal("§c§l⚠ SCHILD ABGELAUFEN! §7Euer Team ist nicht mehr geschützt."));
-                            }
+        var teams = BingoApi.getTeams();
+        if (teams != null) {
+            for (var team : teams) {
+                if (team.getId().equals(teamId)) {
+                    for (UUID memberId : team.getPlayers()) {
+                        ServerPlayer member = server.getPlayerList().getPlayer(memberId);
+                        if (member != null) {
+                            member.sendSystemMessage(Component
+                                    .literal("§c§l⚠ SCHILD ABGELAUFEN! §7Euer Team ist nicht mehr geschützt."));
                         }
-
-                        server.getPlayerList().broadcastSystemMessage(
-                                Component.literal("§7Der Schild von Team §e" + teamId + " §7ist abgelaufen."),
-                                false);
-                        break;
                     }
+
+                    server.getPlayerList().broadcastSystemMessage(
+                            Component.literal("§7Der Schild von Team §e" + teamId + " §7ist abgelaufen."),
+                            false);
+                    break;
                 }
             }
         }
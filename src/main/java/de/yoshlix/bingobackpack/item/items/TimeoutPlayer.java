@@ -2,9 +2,11 @@ package de.yoshlix.bingobackpack.item.items;
 
 import de.yoshlix.bingobackpack.BingoBackpack;
 import de.yoshlix.bingobackpack.item.BingoItem;
+import de.yoshlix.bingobackpack.item.BingoReadModel;
+import de.yoshlix.bingobackpack.item.EffectScheduler;
 import de.yoshlix.bingobackpack.item.ItemRarity;
 import de.yoshlix.bingobackpack.ModConfig;
-import me.jfenn.bingo.api.BingoApi;
+import de.yoshlix.bingobackpack.PlayerStateIndex;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.ClickEvent;
 import net.minecraft.network.chat.Component;
@@ -23,6 +25,7 @@ import java.util.*;
 public class TimeoutPlayer extends BingoItem {
 
     private static final Map<UUID, List<ServerPlayer>> pendingTimeouts = new HashMap<>();
+    // End time in scheduler ticks
     private static final Map<UUID, Long> timedOutPlayers = new HashMap<>();
 
     @Override
@@ -48,38 +51,21 @@ public class TimeoutPlayer extends BingoItem {
 
     @Override
     public boolean onUse(ServerPlayer player) {
-        var teams = BingoApi.getTeams();
-        if (teams == null) {
+        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
+        var model = BingoReadModel.get(server);
+        if (model == null) {
             player.sendSystemMessage(Component.literal("§cKein Bingo-Spiel aktiv!"));
             return false;
         }
 
-        var playerTeam = teams.getTeamForPlayer(player.getUUID());
-        if (playerTeam == null) {
+        if (model.getTeamForPlayer(player.getUUID()) == null) {
             player.sendSystemMessage(Component.literal("§cDu bist in keinem Team!"));
             return false;
         }
 
         // Find all online enemy players (excluding shielded and already timed out ones)
-        var server = ((net.minecraft.server.level.ServerLevel) player.level()).getServer();
-        var enemyPlayers = new ArrayList<ServerPlayer>();
-
-        for (var team : teams) {
-            if (team.getId().equals(playerTeam.getId()))
-                continue;
-
-            // Skip if the entire team is shielded
-            if (TeamShield.isTeamShielded(team.getId())) {
-                continue;
-            }
-
-            for (UUID memberId : team.getPlayers()) {
-                ServerPlayer enemy = server.getPlayerList().getPlayer(memberId);
-                if (enemy != null && !isTimedOut(enemy.getUUID()) && !TeamShield.isPlayerShielded(memberId)) {
-                    enemyPlayers.add(enemy);
-                }
-            }
-        }
+        var enemyPlayers = model.getTargetableEnemies(player.getUUID());
+        enemyPlayers.removeIf(enemy -> isTimedOut(enemy.getUUID()));
 
         if (enemyPlayers.isEmpty()) {
             player.sendSystemMessage(
@@ -187,38 +173,28 @@ public class TimeoutPlayer extends BingoItem {
             Flight15Min.clearFlightTime(target.getUUID());
         }
 
-        timedOutPlayers.put(target.getUUID(),
-                System.currentTimeMillis() + (ModConfig.getInstance().timeoutPlayerDurationSeconds * 1000L));
-    }
-
-    public static boolean isTimedOut(UUID playerId) {
-        Long endTime = timedOutPlayers.get(playerId);
-        if (endTime == null)
-            return false;
-        if (System.currentTimeMillis() >= endTime) {
-            timedOutPlayers.remove(playerId);
-            return false;
-        }
-        return true;
-    }
+        UUID targetId = target.getUUID();
+        long endTick = EffectScheduler.getInstance().getCurrentTick()
+                + ModConfig.getInstance().timeoutPlayerDurationSeconds * 20L;
+        timedOutPlayers.put(targetId, endTick);
+        PlayerStateIndex.getInstance().setUntil(targetId, PlayerStateIndex.TIMED_OUT, endTick);
+        EffectScheduler.getInstance().scheduleAt(endTick, server -> {
+            Long current = timedOutPlayers.get(targetId);
+            if (current == null || current != endTick)
+                return;
 
-    public static void tickTimeoutExpiry(net.minecraft.server.MinecraftServer server) {
-        if (timedOutPlayers.isEmpty())
-            return;
-
-        long now = System.currentTimeMillis();
-        timedOutPlayers.entrySet().removeIf(entry -> {
-            if (now >= entry.getValue()) {
-                ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
-                if (player != null) {
-                    player.sendSystemMessage(Component.literal("§a§l❄ §rDu bist wieder frei!"));
-                }
-                return true;
+            timedOutPlayers.remove(targetId);
+            ServerPlayer player = server.getPlayerList().getPlayer(targetId);
+            if (player != null) {
+                player.sendSystemMessage(Component.literal("§a§l❄ §rDu bist wieder frei!"));
             }
-            return false;
         });
     }
 
+    public static boolean isTimedOut(UUID playerId) {
+        return PlayerStateIndex.getInstance().has(playerId, PlayerStateIndex.TIMED_OUT);
+    }
+
     private static void consumeItem(ServerPlayer player) {
         for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
             var stack = player.getInventory().getItem(i);
@@ -237,6 +213,7 @@ public class TimeoutPlayer extends BingoItem {
     public static void clearAllTimeouts() {
         pendingTimeouts.clear();
         timedOutPlayers.clear();
+        PlayerStateIndex.getInstance().clearAll(PlayerStateIndex.TIMED_OUT);
     }
 
     @Override
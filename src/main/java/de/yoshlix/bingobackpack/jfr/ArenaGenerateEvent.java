@@ -0,0 +1,26 @@
+package de.yoshlix.bingobackpack.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One BanishTask.generate call.
+ */
+@Name("bingobackpack.ArenaGenerate")
+@Label("Banish Arena Generation")
+@Category({ "BingoBackpack", "Banish" })
+@Description("Structure built for a banished player")
+@Enabled(false)
+@StackTrace(false)
+public class ArenaGenerateEvent extends Event {
+    @Label("Task")
+    public String task;
+
+    @Label("Blocks Placed")
+    public int blocksPlaced;
+}
@@ -0,0 +1,47 @@
+package de.yoshlix.bingobackpack.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A backpack read from or written to storage.
+ */
+@Name("bingobackpack.BackpackIo")
+@Label("Backpack I/O")
+@Category({ "BingoBackpack", "Storage" })
+@Description("Backpack load, snapshot write or journal append")
+@Enabled(false)
+@StackTrace(false)
+public class BackpackIoEvent extends Event {
+    public static final String LOAD = "load";
+    public static final String WRITE = "write";
+    public static final String APPEND = "append";
+
+    @Label("Team")
+    public String team;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    /**
+     * Fill in the fields and commit if the event is enabled.
+     */
+    public void commit(String team, String operation, long bytes) {
+        if (shouldCommit()) {
+            this.team = team;
+            this.operation = operation;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
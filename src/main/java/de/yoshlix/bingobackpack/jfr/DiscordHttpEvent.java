@@ -0,0 +1,29 @@
+package de.yoshlix.bingobackpack.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP request to the Discord service, per attempt.
+ */
+@Name("bingobackpack.DiscordHttp")
+@Label("Discord Service Request")
+@Category({ "BingoBackpack", "Discord" })
+@Description("HTTP call to the Discord bot service; status is 0 when the request failed")
+@Enabled(false)
+@StackTrace(false)
+public class DiscordHttpEvent extends Event {
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Status")
+    public int status;
+}
@@ -0,0 +1,29 @@
+package de.yoshlix.bingobackpack.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One Bingo Item drop roll for a mob killed by a player.
+ */
+@Name("bingobackpack.DropRoll")
+@Label("Bingo Item Drop Roll")
+@Category({ "BingoBackpack", "Items" })
+@Description("Drop table roll for a mob kill; item is empty when nothing dropped")
+@Enabled(false)
+@StackTrace(false)
+public class DropRollEvent extends Event {
+    @Label("Entity")
+    public String entity;
+
+    @Label("Player")
+    public String player;
+
+    @Label("Item")
+    public String item;
+}
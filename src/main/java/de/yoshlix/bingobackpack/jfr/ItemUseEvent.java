@@ -0,0 +1,29 @@
+package de.yoshlix.bingobackpack.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call of BingoItemManager.tryUseItem.
+ */
+@Name("bingobackpack.ItemUse")
+@Label("Bingo Item Use")
+@Category({ "BingoBackpack", "Items" })
+@Description("A player used a Bingo Item")
+@Enabled(false)
+@StackTrace(false)
+public class ItemUseEvent extends Event {
+    @Label("Item")
+    public String item;
+
+    @Label("Player")
+    public String player;
+
+    @Label("Consumed")
+    public boolean consumed;
+}
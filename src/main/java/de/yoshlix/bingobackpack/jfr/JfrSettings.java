@@ -0,0 +1,42 @@
+package de.yoshlix.bingobackpack.jfr;
+
+import de.yoshlix.bingobackpack.BingoBackpack;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Ships the JFR settings profile that enables the mod's events. JFR reads
+ * settings from the file system, so the bundled profile is copied into the
+ * config directory.
+ */
+public final class JfrSettings {
+    public static final String FILE_NAME = "bingobackpack.jfc";
+
+    private JfrSettings() {
+    }
+
+    /**
+     * Copy the bundled profile to the config directory unless it already
+     * exists (it may have been edited).
+     */
+    public static void export(Path configDir) {
+        Path target = configDir.resolve(FILE_NAME);
+        if (Files.exists(target))
+            return;
+
+        try (InputStream in = JfrSettings.class.getResourceAsStream("/" + FILE_NAME)) {
+            if (in == null) {
+                BingoBackpack.LOGGER.warn("Bundled JFR profile {} not found", FILE_NAME);
+                return;
+            }
+            Files.createDirectories(configDir);
+            Files.copy(in, target);
+            BingoBackpack.LOGGER.info("Wrote JFR profile to {}", target);
+        } catch (IOException e) {
+            BingoBackpack.LOGGER.error("Failed to write JFR profile", e);
+        }
+    }
+}
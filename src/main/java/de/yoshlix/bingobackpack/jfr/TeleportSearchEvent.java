@@ -0,0 +1,34 @@
+package de.yoshlix.bingobackpack.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One TeleportSafety search for a safe position.
+ */
+@Name("bingobackpack.TeleportSearch")
+@Label("Safe Teleport Search")
+@Category({ "BingoBackpack", "Teleport" })
+@Description("Search for a safe surface position")
+@Enabled(false)
+@StackTrace(false)
+public class TeleportSearchEvent extends Event {
+    @Label("Dimension")
+    public String dimension;
+
+    @Label("Probes")
+    @Description("Positions checked for safe ground and body space")
+    public int probes;
+
+    @Label("Chunks Loaded")
+    @Description("Chunks that were not loaded and had to be loaded or generated")
+    public int chunksLoaded;
+
+    @Label("Found")
+    public boolean found;
+}
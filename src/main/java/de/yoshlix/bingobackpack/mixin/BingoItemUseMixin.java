@@ -1,5 +1,6 @@
 package de.yoshlix.bingobackpack.mixin;
 
+import de.yoshlix.bingobackpack.HookProfiler;
 import de.yoshlix.bingobackpack.item.BingoItemManager;
 import de.yoshlix.bingobackpack.item.BingoItemRegistry;
 import net.minecraft.server.level.ServerPlayer;
@@ -41,7 +42,13 @@ public class BingoItemUseMixin {
         }
 
         // Try to use the item
-        boolean consumed = BingoItemManager.getInstance().tryUseItem(player, stack);
+        long start = HookProfiler.MIXIN_ITEM_USE.begin();
+        boolean consumed;
+        try {
+            consumed = BingoItemManager.getInstance().tryUseItem(player, stack);
+        } finally {
+            HookProfiler.MIXIN_ITEM_USE.end(start);
+        }
 
         if (consumed) {
             // Consume one item from the stack
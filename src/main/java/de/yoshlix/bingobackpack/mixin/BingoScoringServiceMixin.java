@@ -0,0 +1,33 @@
+package de.yoshlix.bingobackpack.mixin;
+
+import de.yoshlix.bingobackpack.item.BingoRewardSystem;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Hooks into Yet Another Bingo's ScoringService so the reward system checks
+ * progress only when an objective was actually completed or uncompleted,
+ * instead of diffing the whole card every tick. Uses string targets like
+ * BingoTeamServiceMixin; the descriptors match
+ * ScoringService#completeObjective(String, String, UUID) and
+ * uncompleteObjective(String, String), both returning boolean.
+ *
+ * The injections are required, so a changed signature fails at startup. If the
+ * class itself is missing the mixin is skipped silently; the ScoringHook
+ * marker lets BingoRewardSystem detect that and log it.
+ */
+@Mixin(targets = "me.jfenn.bingo.common.scoring.ScoringService", remap = false)
+public class BingoScoringServiceMixin implements BingoRewardSystem.ScoringHook {
+
+    @Inject(method = "completeObjective(Ljava/lang/String;Ljava/lang/String;Ljava/util/UUID;)Z", at = @At("RETURN"), remap = false, require = 1)
+    private void bingoBackpack$afterCompleteObjective(CallbackInfoReturnable<Boolean> cir) {
+        BingoRewardSystem.getInstance().markProgressDirty();
+    }
+
+    @Inject(method = "uncompleteObjective(Ljava/lang/String;Ljava/lang/String;)Z", at = @At("RETURN"), remap = false, require = 1)
+    private void bingoBackpack$afterUncompleteObjective(CallbackInfoReturnable<Boolean> cir) {
+        BingoRewardSystem.getInstance().markProgressDirty();
+    }
+}
@@ -8,9 +8,10 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
- * Hooks into Yet Another Bingo's TeamService to trigger a backpack sync
- * whenever
- * players join or leave a team. Uses string targets to avoid a hard compile
+ * Hooks into Yet Another Bingo's TeamService to apply backpack team changes
+ * right after players join or leave a team. The join itself is captured by the
+ * scoreboard hooks, so this only drains the change queue instead of running a
+ * full sync per join. Uses string targets to avoid a hard compile
  * dependency; the descriptor matches TeamService#joinTeam(IPlayerHandle,
  * BingoTeam) and joinSpectators(IPlayerHandle).
  */
@@ -19,11 +20,11 @@ public class BingoTeamServiceMixin {
 
     @Inject(method = "joinTeam(Lme/jfenn/bingo/platform/IPlayerHandle;Lme/jfenn/bingo/common/team/BingoTeam;)V", at = @At("TAIL"), remap = false)
     private void bingoBackpack$afterJoinTeam(@Coerce Object playerHandle, @Coerce Object bingoTeam, CallbackInfo ci) {
-        BingoIntegration.getInstance().manualSync();
+        BingoIntegration.getInstance().applyTeamChanges();
     }
 
     @Inject(method = "joinSpectators(Lme/jfenn/bingo/platform/IPlayerHandle;)V", at = @At("TAIL"), remap = false)
     private void bingoBackpack$afterJoinSpectators(@Coerce Object playerHandle, CallbackInfo ci) {
-        BingoIntegration.getInstance().manualSync();
+        BingoIntegration.getInstance().applyTeamChanges();
     }
 }
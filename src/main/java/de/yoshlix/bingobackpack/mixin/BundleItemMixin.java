@@ -1,9 +1,9 @@
 package de.yoshlix.bingobackpack.mixin;
 
 import de.yoshlix.bingobackpack.BackpackManager;
+import de.yoshlix.bingobackpack.BingoCustomData;
+import de.yoshlix.bingobackpack.HookProfiler;
 import de.yoshlix.bingobackpack.TeamManager;
-import net.minecraft.core.component.DataComponents;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.InteractionHand;
@@ -14,7 +14,6 @@ import net.minecraft.world.inventory.ClickAction;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.BundleItem;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.level.Level;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -30,28 +29,25 @@ public class BundleItemMixin {
         ItemStack stack = player.getItemInHand(hand);
 
         // Check if this is our special backpack bundle
-        if (isBackpackBundle(stack)) {
+        String teamName = BingoCustomData.getBackpackTeam(stack);
+        if (teamName != null) {
             // This is our backpack item
-            if (!level.isClientSide() && player instanceof ServerPlayer serverPlayer) {
-                CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-                if (customData != null) {
-                    CompoundTag tag = customData.copyTag();
-                    if (tag.contains("team")) {
-                        String teamName = tag.getString("team").orElse("");
-                        // Verify player is still in the team
-                        String playerTeam = TeamManager.getInstance().getPlayerTeam(player.getUUID());
-                        if (playerTeam == null || !playerTeam.equals(teamName)) {
-                            serverPlayer.sendSystemMessage(Component.literal("§cYou are no longer in this team!"));
-                            cir.setReturnValue(InteractionResult.FAIL);
-                            return;
-                        }
-
-                        // Open the backpack
-                        BackpackManager.getInstance().openBackpack(serverPlayer, teamName);
-                        cir.setReturnValue(InteractionResult.SUCCESS);
-                    } else {
-                        cir.setReturnValue(InteractionResult.SUCCESS);
+            if (!level.isClientSide() && player instanceof ServerPlayer serverPlayer && !teamName.isEmpty()) {
+                long start = HookProfiler.MIXIN_BUNDLE.begin();
+                try {
+                    // Verify player is still in the team
+                    String playerTeam = TeamManager.getInstance().getPlayerTeam(player.getUUID());
+                    if (playerTeam == null || !playerTeam.equals(teamName)) {
+                        serverPlayer.sendSystemMessage(Component.literal("§cYou are no longer in this team!"));
+                        cir.setReturnValue(InteractionResult.FAIL);
+                        return;
                     }
+
+                    // Open the backpack
+                    BackpackManager.getInstance().openBackpack(serverPlayer, teamName);
+                    cir.setReturnValue(InteractionResult.SUCCESS);
+                } finally {
+                    HookProfiler.MIXIN_BUNDLE.end(start);
                 }
             } else {
                 cir.setReturnValue(InteractionResult.SUCCESS);
@@ -80,11 +76,6 @@ public class BundleItemMixin {
     }
 
     private static boolean isBackpackBundle(ItemStack stack) {
-        CustomData customData = stack.get(DataComponents.CUSTOM_DATA);
-        if (customData != null) {
-            CompoundTag tag = customData.copyTag();
-            return tag.contains("bingobackpack_item") && tag.getBoolean("bingobackpack_item").orElse(false);
-        }
-        return false;
+        return BingoCustomData.getBackpackTeam(stack) != null;
     }
 }
@@ -7,8 +7,9 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import de.yoshlix.bingobackpack.HookProfiler;
 import de.yoshlix.bingobackpack.ModConfig;
-import de.yoshlix.bingobackpack.banish.BanishManager;
+import de.yoshlix.bingobackpack.PlayerStateIndex;
 import net.minecraft.server.level.ServerPlayer;
 
 @Mixin(FoodData.class)
@@ -24,12 +25,20 @@ public class HungerMixin {
 
     @Inject(method = "tick", at = @At("HEAD"))
     private void onTick(ServerPlayer player, CallbackInfo ci) {
+        long start = HookProfiler.MIXIN_HUNGER.begin();
+        try {
+            restoreHunger(player);
+        } finally {
+            HookProfiler.MIXIN_HUNGER.end(start);
+        }
+    }
 
+    private void restoreHunger(ServerPlayer player) {
         if (!ModConfig.getInstance().hungerMixinEnabled)
             return;
 
         // Don't restore hunger for banished players — they should feel hunger in the arena
-        if (BanishManager.getInstance().isBanished(player)) {
+        if (PlayerStateIndex.getInstance().has(player, PlayerStateIndex.BANISHED)) {
             return; // Skip hunger restoration, let natural hunger work
         }
 
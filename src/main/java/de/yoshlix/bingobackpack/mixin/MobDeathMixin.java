@@ -1,5 +1,6 @@
 package de.yoshlix.bingobackpack.mixin;
 
+import de.yoshlix.bingobackpack.HookProfiler;
 import de.yoshlix.bingobackpack.item.BingoItemManager;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.damagesource.DamageSource;
@@ -23,7 +24,12 @@ public class MobDeathMixin {
         // Check if the entity was killed by a player
         if (damageSource.getEntity() instanceof Player player) {
             // Trigger the drop check
-            BingoItemManager.getInstance().onMobKilled(self, player);
+            long start = HookProfiler.MIXIN_MOB_DEATH.begin();
+            try {
+                BingoItemManager.getInstance().onMobKilled(self, player);
+            } finally {
+                HookProfiler.MIXIN_MOB_DEATH.end(start);
+            }
         }
     }
 }
@@ -0,0 +1,26 @@
+package de.yoshlix.bingobackpack.mixin;
+
+import de.yoshlix.bingobackpack.PlayerStateIndex;
+import net.minecraft.server.level.ServerPlayer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Caches the player's PlayerStateIndex slot on the ServerPlayer so hot-path
+ * checks skip the UUID lookup.
+ */
+@Mixin(ServerPlayer.class)
+public class ServerPlayerStateSlotMixin implements PlayerStateIndex.SlotHolder {
+    @Unique
+    private int bingoBackpack$stateSlot = -1;
+
+    @Override
+    public int bingoBackpack$getStateSlot() {
+        return bingoBackpack$stateSlot;
+    }
+
+    @Override
+    public void bingoBackpack$setStateSlot(int slot) {
+        bingoBackpack$stateSlot = slot;
+    }
+}
@@ -0,0 +1,41 @@
+package de.yoshlix.bingobackpack.mixin;
+
+import de.yoshlix.bingobackpack.BingoIntegration;
+import net.minecraft.server.ServerScoreboard;
+import net.minecraft.world.scores.PlayerTeam;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Feeds scoreboard team changes into BingoIntegration's change queue so
+ * backpack teams are updated incrementally instead of by a full rescan.
+ */
+@Mixin(ServerScoreboard.class)
+public class ServerScoreboardMixin {
+
+    @Inject(method = "addPlayerToTeam", at = @At("RETURN"))
+    private void bingoBackpack$afterAddPlayerToTeam(String playerName, PlayerTeam team,
+            CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ()) {
+            BingoIntegration.getInstance().onScoreboardPlayerAdded(playerName, team.getName());
+        }
+    }
+
+    @Inject(method = "removePlayerFromTeam(Ljava/lang/String;Lnet/minecraft/world/scores/PlayerTeam;)V", at = @At("TAIL"))
+    private void bingoBackpack$afterRemovePlayerFromTeam(String playerName, PlayerTeam team, CallbackInfo ci) {
+        BingoIntegration.getInstance().onScoreboardPlayerRemoved(playerName, team.getName());
+    }
+
+    @Inject(method = "onTeamAdded", at = @At("TAIL"))
+    private void bingoBackpack$afterTeamAdded(PlayerTeam team, CallbackInfo ci) {
+        BingoIntegration.getInstance().onScoreboardTeamAdded(team.getName());
+    }
+
+    @Inject(method = "onTeamRemoved", at = @At("TAIL"))
+    private void bingoBackpack$afterTeamRemoved(PlayerTeam team, CallbackInfo ci) {
+        BingoIntegration.getInstance().onScoreboardTeamRemoved(team.getName());
+    }
+}
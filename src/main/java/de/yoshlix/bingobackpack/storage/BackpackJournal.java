@@ -0,0 +1,162 @@
+package de.yoshlix.bingobackpack.storage;
+
+import de.yoshlix.bingobackpack.BingoBackpack;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.world.item.ItemStack;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of backpack slot changes.
+ * 
+ * Record layout: {@code int length, int crc32, payload}, where the payload is
+ * {@code short slot} followed by the stack in the binary stream-codec format.
+ * A torn or corrupt record (e.g. from a crash mid-append) ends the replay;
+ * everything before it is kept and the caller folds it into a new snapshot,
+ * so later appends never land behind the damaged bytes. Appends are forced
+ * to disk before the write counts as done.
+ * 
+ * Journals written before the binary format used the payload
+ * {@code short slot, boolean present, [NBT stack]}; replayLegacy() reads those
+ * during migration.
+ */
+public class BackpackJournal {
+
+    /**
+     * Outcome of a replay: records applied and whether it stopped at a torn
+     * or corrupt record.
+     */
+    public record Replay(int records, boolean damaged) {
+    }
+
+    private BackpackJournal() {
+    }
+
+    /**
+     * Append one record per changed slot and return the number of bytes written.
+     */
+    public static int append(Path journalFile, BinaryBackpackCodec codec, EncodedSlotCache cache, ItemStack[] items,
+            int[] slots) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        CRC32 crc = new CRC32();
+
+        for (int slot : slots) {
+            byte[] stack = codec.encodeStack(slot, items[slot], cache);
+            byte[] payload = new byte[2 + stack.length];
+            payload[0] = (byte) (slot >>> 8);
+            payload[1] = (byte) slot;
+            System.arraycopy(stack, 0, payload, 2, stack.length);
+
+            crc.reset();
+            crc.update(payload);
+            out.writeInt(payload.length);
+            out.writeInt((int) crc.getValue());
+            out.write(payload);
+        }
+        out.flush();
+
+        try (FileChannel file = FileChannel.open(journalFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer data = ByteBuffer.wrap(buffer.toByteArray());
+            while (data.hasRemaining()) {
+                file.write(data);
+            }
+            file.force(false);
+        }
+        return buffer.size();
+    }
+
+    /**
+     * Apply all intact records of a journal to the given slots.
+     */
+    public static Replay replay(Path journalFile, BinaryBackpackCodec codec, ItemStack[] items) throws IOException {
+        return readRecords(journalFile, 2, payload -> {
+            int slot = (payload[0] & 0xFF) << 8 | (payload[1] & 0xFF);
+            if (slot < items.length) {
+                items[slot] = codec.decodeStack(payload, 2, payload.length - 2);
+            }
+        });
+    }
+
+    /**
+     * Replay a journal written in the old NBT record format.
+     */
+    public static Replay replayLegacy(Path journalFile, BackpackSerializer serializer, ItemStack[] items)
+            throws IOException {
+        return readRecords(journalFile, 3, payload -> {
+            DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+            int slot = record.readShort();
+            boolean present = record.readBoolean();
+            ItemStack stack = present
+                    ? serializer.decodeStack(NbtIo.read(record, NbtAccounter.unlimitedHeap()))
+                    : ItemStack.EMPTY;
+            if (slot >= 0 && slot < items.length) {
+                items[slot] = stack;
+            }
+        });
+    }
+
+    private static Replay readRecords(Path journalFile, int minLength, RecordHandler handler) throws IOException {
+        int count = 0;
+        CRC32 crc = new CRC32();
+        long remaining = Files.size(journalFile);
+
+        try (InputStream file = Files.newInputStream(journalFile);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            while (remaining > 0) {
+                byte[] payload;
+                int expectedCrc;
+                try {
+                    int length = in.readInt();
+                    expectedCrc = in.readInt();
+                    remaining -= 8;
+                    // Checked before allocating, a corrupt header must not size the buffer
+                    if (length < minLength || length > remaining) {
+                        return damaged(journalFile, count);
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                    remaining -= length;
+                } catch (EOFException e) {
+                    return damaged(journalFile, count);
+                }
+
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != expectedCrc) {
+                    return damaged(journalFile, count);
+                }
+
+                handler.accept(payload);
+                count++;
+            }
+        }
+        return new Replay(count, false);
+    }
+
+    private static Replay damaged(Path journalFile, int count) {
+        BingoBackpack.LOGGER.warn("Torn or corrupt record in backpack journal {} after {} records, ignoring the rest",
+                journalFile.getFileName(), count);
+        return new Replay(count, true);
+    }
+
+    @FunctionalInterface
+    private interface RecordHandler {
+        void accept(byte[] payload) throws IOException;
+    }
+}
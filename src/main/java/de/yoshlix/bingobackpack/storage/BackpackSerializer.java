@@ -0,0 +1,61 @@
+package de.yoshlix.bingobackpack.storage;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.RegistryOps;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Converts backpack contents to and from NBT. Only used to read backpacks
+ * written before the binary format (see BinaryBackpackCodec).
+ */
+public class BackpackSerializer {
+
+    private final RegistryOps<Tag> ops;
+
+    public BackpackSerializer(HolderLookup.Provider registries) {
+        this.ops = registries.createSerializationContext(NbtOps.INSTANCE);
+    }
+
+    public CompoundTag encodeStack(ItemStack stack) {
+        return (CompoundTag) ItemStack.OPTIONAL_CODEC.encodeStart(ops, stack).getOrThrow();
+    }
+
+    public ItemStack decodeStack(CompoundTag tag) {
+        return ItemStack.OPTIONAL_CODEC.parse(ops, tag).result().orElse(ItemStack.EMPTY);
+    }
+
+    public CompoundTag encodeItems(ItemStack[] items) {
+        CompoundTag rootTag = new CompoundTag();
+        ListTag listTag = new ListTag();
+
+        for (int i = 0; i < items.length; i++) {
+            ItemStack stack = items[i];
+            if (!stack.isEmpty()) {
+                CompoundTag itemTag = new CompoundTag();
+                itemTag.putInt("Slot", i);
+                itemTag.put("Item", encodeStack(stack));
+                listTag.add(itemTag);
+            }
+        }
+
+        rootTag.put("Items", listTag);
+        return rootTag;
+    }
+
+    public void decodeItems(CompoundTag rootTag, ItemStack[] items) {
+        ListTag listTag = rootTag.getList("Items").orElse(new ListTag());
+
+        for (int i = 0; i < listTag.size(); i++) {
+            listTag.getCompound(i).ifPresent(itemTag -> {
+                int slot = itemTag.getInt("Slot").orElse(-1);
+                if (slot >= 0 && slot < items.length) {
+                    itemTag.getCompound("Item").ifPresent(itemCompound -> items[slot] = decodeStack(itemCompound));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package de.yoshlix.bingobackpack.storage;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import de.yoshlix.bingobackpack.BingoBackpack;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.item.ItemStack;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Versioned, content-addressed history of all team backpacks.
+ *
+ * Every stack is stored once as an object named by the SHA-256 of its encoded
+ * bytes. A backpack is a manifest object listing {@code (slot, stack hash)},
+ * and a snapshot is a small JSON ref mapping team names to manifest hashes.
+ * Identical stacks and unchanged backpacks therefore take no extra space in
+ * later snapshots.
+ *
+ * Rounds older than the configured number of hot rounds are archived: all
+ * objects they reference are packed into one GZIP file per round, and hot
+ * objects that no hot snapshot references any more are removed. Rounds older
+ * than the retention limit are deleted with their pack.
+ */
+public class BackpackSnapshotStore {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int HASH_BYTES = 32;
+    // Packs kept in memory, so listing and restoring from an archived round parses it once
+    private static final int PACK_CACHE_SIZE = 2;
+
+    private final Path objectsDir;
+    private final Path refsDir;
+    private final Path packsDir;
+    private final Path stateFile;
+    private final BinaryBackpackCodec codec;
+
+    private final TreeMap<Integer, SnapshotRef> refs = new TreeMap<>();
+    private int round = 1;
+    private int nextId = 1;
+    private final Map<Integer, Map<String, byte[]>> packCache = new LinkedHashMap<>(4, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Map<String, byte[]>> eldest) {
+            return size() > PACK_CACHE_SIZE;
+        }
+    };
+
+    public BackpackSnapshotStore(Path rootDir, RegistryAccess registries) throws IOException {
+        this.objectsDir = rootDir.resolve("objects");
+        this.refsDir = rootDir.resolve("refs");
+        this.packsDir = rootDir.resolve("packs");
+        this.stateFile = rootDir.resolve("state.json");
+        this.codec = new BinaryBackpackCodec(registries, false);
+
+        Files.createDirectories(objectsDir);
+        Files.createDirectories(refsDir);
+        Files.createDirectories(packsDir);
+
+        if (Files.exists(stateFile)) {
+            try (Reader reader = Files.newBufferedReader(stateFile)) {
+                State state = GSON.fromJson(reader, State.class);
+                if (state != null) {
+                    round = Math.max(1, state.round());
+                }
+            }
+        }
+
+        try (Stream<Path> files = Files.list(refsDir)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).toList()) {
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    SnapshotRef ref = GSON.fromJson(reader, SnapshotRef.class);
+                    if (ref != null) {
+                        refs.put(ref.id(), ref);
+                        nextId = Math.max(nextId, ref.id() + 1);
+                    }
+                } catch (RuntimeException e) {
+                    BingoBackpack.LOGGER.warn("Skipping unreadable backpack snapshot {}", file, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Store a snapshot of the given backpacks. With skipUnchanged, nothing is
+     * written and null is returned if no backpack changed since the last snapshot.
+     */
+    public synchronized SnapshotRef take(String reason, Map<String, ItemStack[]> backpacks, boolean skipUnchanged)
+            throws IOException {
+        Map<String, String> teams = new TreeMap<>();
+        for (Map.Entry<String, ItemStack[]> entry : backpacks.entrySet()) {
+            teams.put(entry.getKey(), writeManifest(entry.getValue()));
+        }
+
+        SnapshotRef latest = refs.isEmpty() ? null : refs.lastEntry().getValue();
+        if (skipUnchanged && latest != null && latest.teams().equals(teams)) {
+            return null;
+        }
+
+        SnapshotRef ref = new SnapshotRef(nextId++, System.currentTimeMillis(), reason, round, teams);
+        writeAtomically(refsDir.resolve(ref.id() + ".json"), GSON.toJson(ref).getBytes(StandardCharsets.UTF_8));
+        refs.put(ref.id(), ref);
+        return ref;
+    }
+
+    /**
+     * Read one team's backpack from a snapshot, or null if the snapshot or the
+     * team does not exist.
+     */
+    public synchronized ItemStack[] load(int snapshotId, String teamName, int size) throws IOException {
+        SnapshotRef ref = refs.get(snapshotId);
+        if (ref == null || !ref.teams().containsKey(teamName)) {
+            return null;
+        }
+
+        ItemStack[] items = new ItemStack[size];
+        Arrays.fill(items, ItemStack.EMPTY);
+        for (Map.Entry<Integer, String> entry : readManifest(ref.teams().get(teamName), ref.round()).entrySet()) {
+            int slot = entry.getKey();
+            if (slot < size) {
+                byte[] stack = readObject(entry.getValue(), ref.round());
+                items[slot] = codec.decodeStack(stack, 0, stack.length);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * All snapshots, newest first.
+     */
+    public synchronized List<SnapshotRef> list() {
+        List<SnapshotRef> result = new ArrayList<>(refs.values());
+        result.sort((a, b) -> Integer.compare(b.id(), a.id()));
+        return result;
+    }
+
+    public synchronized boolean isArchived(SnapshotRef ref) {
+        return Files.exists(packFile(ref.round()));
+    }
+
+    public synchronized int getRound() {
+        return round;
+    }
+
+    /**
+     * Start a new round, delete rounds older than retainRounds (0 = keep all)
+     * and move rounds older than hotRounds into the cold tier.
+     */
+    public synchronized void endRound(int hotRounds, int retainRounds) throws IOException {
+        round++;
+        writeAtomically(stateFile, GSON.toJson(new State(round)).getBytes(StandardCharsets.UTF_8));
+        boolean pruned = retainRounds > 0 && prune(round - retainRounds);
+
+        int firstHotRound = round - Math.max(0, hotRounds);
+        Set<Integer> archivedRounds = new HashSet<>();
+        for (SnapshotRef ref : refs.values()) {
+            if (ref.round() < firstHotRound && !Files.exists(packFile(ref.round()))) {
+                archivedRounds.add(ref.round());
+            }
+        }
+        if (archivedRounds.isEmpty() && !pruned)
+            return;
+
+        for (int archivedRound : archivedRounds) {
+            Set<String> objects = new HashSet<>();
+            for (SnapshotRef ref : refs.values()) {
+                if (ref.round() == archivedRound) {
+                    collectObjects(ref, objects);
+                }
+            }
+            writePack(archivedRound, objects);
+        }
+
+        // Drop hot objects that only archived or pruned snapshots still reference
+        Set<String> live = new HashSet<>();
+        for (SnapshotRef ref : refs.values()) {
+            if (ref.round() >= firstHotRound) {
+                collectObjects(ref, live);
+            }
+        }
+        int removed = 0;
+        try (Stream<Path> files = Files.walk(objectsDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String hash = file.getParent().getFileName().toString() + file.getFileName();
+                if (!live.contains(hash)) {
+                    Files.deleteIfExists(file);
+                    removed++;
+                }
+            }
+        }
+        BingoBackpack.LOGGER.info("Archived backpack snapshots of {} round(s), removed {} hot objects",
+                archivedRounds.size(), removed);
+    }
+
+    /**
+     * Delete all snapshots of rounds before firstKeptRound and their packs.
+     * Their hot objects are removed by the sweep in endRound. Returns true if
+     * any round was deleted.
+     */
+    private boolean prune(int firstKeptRound) throws IOException {
+        Set<Integer> prunedRounds = new HashSet<>();
+        Iterator<SnapshotRef> iterator = refs.values().iterator();
+        while (iterator.hasNext()) {
+            SnapshotRef ref = iterator.next();
+            if (ref.round() < firstKeptRound) {
+                Files.deleteIfExists(refsDir.resolve(ref.id() + ".json"));
+                prunedRounds.add(ref.round());
+                iterator.remove();
+            }
+        }
+        for (int prunedRound : prunedRounds) {
+            Files.deleteIfExists(packFile(prunedRound));
+            packCache.remove(prunedRound);
+        }
+        if (!prunedRounds.isEmpty()) {
+            BingoBackpack.LOGGER.info("Deleted backpack snapshots of {} round(s) past retention", prunedRounds.size());
+        }
+        return !prunedRounds.isEmpty();
+    }
+
+    private String writeManifest(ItemStack[] items) throws IOException {
+        int count = 0;
+        for (ItemStack stack : items) {
+            if (!stack.isEmpty()) {
+                count++;
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(items.length);
+        out.writeShort(count);
+        for (int slot = 0; slot < items.length; slot++) {
+            if (!items[slot].isEmpty()) {
+                out.writeShort(slot);
+                out.write(HEX.parseHex(writeObject(codec.encodeStack(items[slot]))));
+            }
+        }
+        out.flush();
+        return writeObject(bytes.toByteArray());
+    }
+
+    private Map<Integer, String> readManifest(String hash, int round) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(readObject(hash, round)));
+        in.readShort(); // size at snapshot time
+        int count = in.readShort();
+        Map<Integer, String> slots = new TreeMap<>();
+        byte[] stackHash = new byte[HASH_BYTES];
+        for (int i = 0; i < count; i++) {
+            int slot = in.readShort();
+            in.readFully(stackHash);
+            slots.put(slot, HEX.formatHex(stackHash));
+        }
+        return slots;
+    }
+
+    private void collectObjects(SnapshotRef ref, Set<String> objects) throws IOException {
+        for (String manifest : ref.teams().values()) {
+            if (objects.add(manifest)) {
+                objects.addAll(readManifest(manifest, ref.round()).values());
+            }
+        }
+    }
+
+    /**
+     * Store an object under its content hash unless it already exists.
+     */
+    private String writeObject(byte[] data) throws IOException {
+        String hash = hash(data);
+        Path file = objectFile(hash);
+        if (!Files.exists(file)) {
+            Files.createDirectories(file.getParent());
+            writeAtomically(file, data);
+        }
+        return hash;
+    }
+
+    private byte[] readObject(String hash, int round) throws IOException {
+        Path file = objectFile(hash);
+        if (Files.exists(file)) {
+            return Files.readAllBytes(file);
+        }
+
+        byte[] packed = readPack(round).get(hash);
+        if (packed == null) {
+            throw new IOException("Missing backpack snapshot object " + hash);
+        }
+        return packed;
+    }
+
+    // Pack layout: repeated (32-byte hash, int length, bytes), GZIP-compressed
+    private void writePack(int packRound, Set<String> objects) throws IOException {
+        Path file = packFile(packRound);
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+            for (String hash : objects) {
+                byte[] data = readObject(hash, packRound);
+                out.write(HEX.parseHex(hash));
+                out.writeInt(data.length);
+                out.write(data);
+            }
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Map<String, byte[]> readPack(int packRound) throws IOException {
+        Map<String, byte[]> cached = packCache.get(packRound);
+        if (cached != null) {
+            return cached;
+        }
+
+        Path file = packFile(packRound);
+        if (!Files.exists(file)) {
+            return Map.of();
+        }
+
+        Map<String, byte[]> objects = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            byte[] hash = new byte[HASH_BYTES];
+            while (true) {
+                try {
+                    in.readFully(hash);
+                } catch (EOFException e) {
+                    break;
+                }
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                objects.put(HEX.formatHex(hash), data);
+            }
+        }
+        packCache.put(packRound, objects);
+        return objects;
+    }
+
+    private Path objectFile(String hash) {
+        return objectsDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2));
+    }
+
+    private Path packFile(int packRound) {
+        return packsDir.resolve("round-" + packRound + ".pack");
+    }
+
+    private static void writeAtomically(Path file, byte[] data) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tempFile, data);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String hash(byte[] data) {
+        try {
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * One snapshot: creation time, what triggered it, the round it belongs to
+     * and the manifest hash of every team's backpack.
+     */
+    public record SnapshotRef(int id, long created, String reason, int round, Map<String, String> teams) {
+    }
+
+    private record State(int round) {
+    }
+}
@@ -0,0 +1,42 @@
+package de.yoshlix.bingobackpack.storage;
+
+import net.minecraft.world.item.ItemStack;
+
+import java.io.IOException;
+
+/**
+ * Persistence backend for team backpacks.
+ * 
+ * Implementations are called from the backpack I/O thread and, for loads and
+ * synchronous saves, from the server thread, so they must be thread-safe.
+ * The ItemStack arrays passed to write() are private copies and are never
+ * modified afterwards.
+ */
+public interface BackpackStorage {
+
+    /**
+     * Load the stored slots of a team. Slots without data are ItemStack.EMPTY.
+     * 
+     * @param size Number of slots of the backpack
+     */
+    ItemStack[] load(String teamName, int size) throws IOException;
+
+    /**
+     * Persist the current contents of a backpack.
+     * 
+     * @param items        Full contents of the backpack
+     * @param changedSlots Slots that differ from the previous write, or null if
+     *                     unknown (forces a full write)
+     */
+    void write(String teamName, ItemStack[] items, int[] changedSlots) throws IOException;
+
+    void delete(String teamName) throws IOException;
+
+    void deleteAll() throws IOException;
+
+    /**
+     * Release files held open by this backend.
+     */
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,295 @@
+package de.yoshlix.bingobackpack.storage;
+
+import de.yoshlix.bingobackpack.BingoBackpack;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.resources.RegistryOps;
+import net.minecraft.world.item.ItemStack;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary backpack format.
+ * 
+ * Layout: {@code int magic, byte version, byte flags, [int rawLength]} followed
+ * by the body {@code varint size, varint count, count x (varint slot, varint
+ * length, stack bytes)}. With FLAG_DEFLATE the body is compressed with
+ * Deflater.BEST_SPEED and rawLength holds its uncompressed size.
+ * 
+ * Stack bytes are STACK_NBT followed by the stack as binary NBT from
+ * ItemStack.OPTIONAL_CODEC, so items and components are stored by registry
+ * key and survive game updates and mod-set changes. Version 1 stored stacks
+ * with the network stream codec, which writes raw registry IDs; such stacks
+ * (no STACK_NBT marker, journals and snapshot objects included) are still
+ * read, and isCurrentVersion() tells storages to rewrite version 1 backpacks.
+ * 
+ * Encoding reuses internal buffers, so one codec must not be shared between
+ * threads without holding its lock (all public methods are synchronized).
+ */
+public class BinaryBackpackCodec {
+    public static final int MAGIC = 0x4242504B; // "BBPK"
+    public static final byte VERSION = 2;
+    private static final byte FLAG_DEFLATE = 1;
+    private static final int HEADER_SIZE = 6;
+    // Upper bound for the uncompressed body read from a header; real backpacks are far smaller
+    private static final int MAX_RAW_LENGTH = 16 * 1024 * 1024;
+    // First byte of a keyed stack; a version 1 stack starts with its count as a varint (at most 99)
+    private static final byte STACK_NBT = (byte) 0xFE;
+
+    private final RegistryAccess registries;
+    private final RegistryOps<Tag> ops;
+    private final boolean compress;
+    private final RegistryFriendlyByteBuf body;
+    private final ByteArrayOutputStream stackBuffer = new ByteArrayOutputStream(512);
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final Inflater inflater = new Inflater();
+
+    public BinaryBackpackCodec(RegistryAccess registries, boolean compress) {
+        this.registries = registries;
+        this.ops = registries.createSerializationContext(NbtOps.INSTANCE);
+        this.compress = compress;
+        this.body = new RegistryFriendlyByteBuf(Unpooled.buffer(4096), registries);
+    }
+
+    /**
+     * Check whether the data starts with this format's header.
+     */
+    public static boolean isBinary(byte[] data) {
+        return data.length >= HEADER_SIZE
+                && ((data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16 | (data[2] & 0xFF) << 8 | (data[3] & 0xFF)) == MAGIC;
+    }
+
+    /**
+     * Whether a binary backpack was written with registry-keyed stacks. Older
+     * ones should be rewritten after loading.
+     */
+    public static boolean isCurrentVersion(byte[] data) {
+        return isBinary(data) && data[4] >= VERSION;
+    }
+
+    public byte[] encode(ItemStack[] items) {
+        return encode(items, null);
+    }
+
+    /**
+     * Encode a backpack, reusing the cached bytes of slots whose stack did not
+     * change and updating the cache for the rest.
+     */
+    public synchronized byte[] encode(ItemStack[] items, EncodedSlotCache cache) {
+        body.clear();
+        int count = 0;
+        for (ItemStack stack : items) {
+            if (!stack.isEmpty()) {
+                count++;
+            }
+        }
+
+        body.writeVarInt(items.length);
+        body.writeVarInt(count);
+        for (int slot = 0; slot < items.length; slot++) {
+            if (!items[slot].isEmpty()) {
+                byte[] stack = encodeStack(slot, items[slot], cache);
+                body.writeVarInt(slot);
+                body.writeVarInt(stack.length);
+                body.writeBytes(stack);
+            }
+        }
+
+        int rawLength = body.readableBytes();
+        if (!compress) {
+            byte[] out = new byte[HEADER_SIZE + rawLength];
+            writeHeader(out, (byte) 0);
+            body.getBytes(body.readerIndex(), out, HEADER_SIZE, rawLength);
+            return out;
+        }
+
+        byte[] raw = new byte[rawLength];
+        body.getBytes(body.readerIndex(), raw);
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+
+        byte[] out = new byte[HEADER_SIZE + 4 + deflater.deflateBound(rawLength)];
+        writeHeader(out, FLAG_DEFLATE);
+        out[HEADER_SIZE] = (byte) (rawLength >>> 24);
+        out[HEADER_SIZE + 1] = (byte) (rawLength >>> 16);
+        out[HEADER_SIZE + 2] = (byte) (rawLength >>> 8);
+        out[HEADER_SIZE + 3] = (byte) rawLength;
+        int length = HEADER_SIZE + 4;
+        while (!deflater.finished()) {
+            length += deflater.deflate(out, length, out.length - length);
+        }
+        return Arrays.copyOf(out, length);
+    }
+
+    /**
+     * Decode a backpack into the given slots. Stacks that fail to decode are
+     * skipped and logged.
+     */
+    public void decode(byte[] data, ItemStack[] items) throws IOException {
+        decode(data, items, null);
+    }
+
+    /**
+     * Decode a backpack and remember the bytes of every decoded stack, so the
+     * next encode of the unchanged stacks is free. Truncated or corrupt data
+     * fails with an IOException.
+     */
+    public synchronized void decode(byte[] data, ItemStack[] items, EncodedSlotCache cache) throws IOException {
+        if (!isBinary(data)) {
+            throw new IOException("Not a binary backpack");
+        }
+        if (data[4] > VERSION) {
+            throw new IOException("Unsupported binary backpack version " + data[4]);
+        }
+
+        ByteBuf raw;
+        if ((data[5] & FLAG_DEFLATE) != 0) {
+            if (data.length < HEADER_SIZE + 4) {
+                throw new IOException("Truncated compressed backpack");
+            }
+            int rawLength = (data[HEADER_SIZE] & 0xFF) << 24 | (data[HEADER_SIZE + 1] & 0xFF) << 16
+                    | (data[HEADER_SIZE + 2] & 0xFF) << 8 | (data[HEADER_SIZE + 3] & 0xFF);
+            if (rawLength < 0 || rawLength > MAX_RAW_LENGTH) {
+                throw new IOException("Invalid compressed backpack length " + rawLength);
+            }
+            byte[] inflated = new byte[rawLength];
+            inflater.reset();
+            inflater.setInput(data, HEADER_SIZE + 4, data.length - HEADER_SIZE - 4);
+            try {
+                int read = 0;
+                while (read < rawLength && !inflater.finished()) {
+                    int n = inflater.inflate(inflated, read, rawLength - read);
+                    if (n == 0 && inflater.needsInput()) {
+                        break;
+                    }
+                    read += n;
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupt compressed backpack", e);
+            }
+            raw = Unpooled.wrappedBuffer(inflated);
+        } else {
+            raw = Unpooled.wrappedBuffer(data, HEADER_SIZE, data.length - HEADER_SIZE);
+        }
+
+        RegistryFriendlyByteBuf in = new RegistryFriendlyByteBuf(raw, registries);
+        try {
+            readSlots(in, items, cache);
+        } catch (RuntimeException e) {
+            // Bad varints or lengths from a truncated body
+            throw new IOException("Corrupt backpack framing", e);
+        }
+    }
+
+    private void readSlots(RegistryFriendlyByteBuf in, ItemStack[] items, EncodedSlotCache cache)
+            throws IOException {
+        in.readVarInt(); // stored size; slots beyond the current size are dropped below
+        int count = in.readVarInt();
+        // Every entry takes at least two bytes (slot and length)
+        if (count < 0 || count > in.readableBytes() / 2) {
+            throw new IOException("Invalid backpack stack count " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            int slot = in.readVarInt();
+            int length = in.readVarInt();
+            if (length < 0 || length > in.readableBytes()) {
+                throw new IOException("Invalid backpack stack length " + length + " in slot " + slot);
+            }
+            int end = in.readerIndex() + length;
+            if (slot >= 0 && slot < items.length) {
+                try {
+                    byte[] bytes = new byte[length];
+                    in.readBytes(bytes);
+                    items[slot] = decodeStack(bytes, 0, length);
+                    // Version 1 bytes are not cached, so the next write stores the keyed form
+                    if (cache != null && bytes.length > 0 && bytes[0] == STACK_NBT) {
+                        cache.store(slot, items[slot], bytes);
+                    }
+                } catch (RuntimeException e) {
+                    BingoBackpack.LOGGER.warn("Skipping unreadable backpack stack in slot {}", slot, e);
+                }
+            }
+            in.readerIndex(end);
+        }
+    }
+
+    /**
+     * Encode a single stack (used by journal records), going through the slot
+     * cache if one is given.
+     */
+    public synchronized byte[] encodeStack(int slot, ItemStack stack, EncodedSlotCache cache) {
+        if (cache != null) {
+            byte[] cached = cache.lookup(slot, stack);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        byte[] encoded = encodeStack(stack);
+        if (cache != null) {
+            cache.store(slot, stack, encoded);
+        }
+        return encoded;
+    }
+
+    public synchronized byte[] encodeStack(ItemStack stack) {
+        stackBuffer.reset();
+        stackBuffer.write(STACK_NBT);
+        if (!stack.isEmpty()) {
+            try {
+                NbtIo.write((CompoundTag) ItemStack.CODEC.encodeStart(ops, stack).getOrThrow(),
+                        new DataOutputStream(stackBuffer));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return stackBuffer.toByteArray();
+    }
+
+    public synchronized ItemStack decodeStack(byte[] data, int offset, int length) {
+        if (length > 0 && data[offset] == STACK_NBT) {
+            if (length == 1) {
+                return ItemStack.EMPTY;
+            }
+            try {
+                CompoundTag tag = NbtIo.read(
+                        new DataInputStream(new ByteArrayInputStream(data, offset + 1, length - 1)),
+                        NbtAccounter.unlimitedHeap());
+                return ItemStack.CODEC.parse(ops, tag).getOrThrow();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // Version 1: network stream codec with raw registry IDs
+        RegistryFriendlyByteBuf in = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(data, offset, length),
+                registries);
+        return ItemStack.OPTIONAL_STREAM_CODEC.decode(in);
+    }
+
+    private static void writeHeader(byte[] out, byte flags) {
+        out[0] = (byte) (MAGIC >>> 24);
+        out[1] = (byte) (MAGIC >>> 16);
+        out[2] = (byte) (MAGIC >>> 8);
+        out[3] = (byte) MAGIC;
+        out[4] = VERSION;
+        out[5] = flags;
+    }
+}
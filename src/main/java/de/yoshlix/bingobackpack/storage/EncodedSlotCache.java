@@ -0,0 +1,64 @@
+package de.yoshlix.bingobackpack.storage;
+
+import net.minecraft.world.item.ItemStack;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Last encoded form of every slot of one backpack.
+ * 
+ * Entries are keyed by stack identity plus count and component hash. The
+ * backpack manager hands storage immutable copies and only replaces a copy
+ * when the slot changed, so an identical instance means the bytes are still
+ * valid and the stack does not need to be encoded again.
+ */
+public class EncodedSlotCache {
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private ItemStack[] stacks = new ItemStack[0];
+    private int[] counts = new int[0];
+    private int[] hashes = new int[0];
+    private byte[][] encoded = new byte[0][];
+
+    /**
+     * Return the cached bytes for this slot, or null if the stack changed.
+     */
+    public byte[] lookup(int slot, ItemStack stack) {
+        if (slot < stacks.length && stacks[slot] == stack && counts[slot] == stack.getCount()
+                && hashes[slot] == ItemStack.hashItemAndComponents(stack)) {
+            HITS.incrementAndGet();
+            return encoded[slot];
+        }
+        MISSES.incrementAndGet();
+        return null;
+    }
+
+    public void store(int slot, ItemStack stack, byte[] bytes) {
+        if (slot >= stacks.length) {
+            int size = slot + 1;
+            stacks = Arrays.copyOf(stacks, size);
+            counts = Arrays.copyOf(counts, size);
+            hashes = Arrays.copyOf(hashes, size);
+            encoded = Arrays.copyOf(encoded, size);
+        }
+        stacks[slot] = stack;
+        counts[slot] = stack.getCount();
+        hashes[slot] = ItemStack.hashItemAndComponents(stack);
+        encoded[slot] = bytes;
+    }
+
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    public static void resetCounters() {
+        HITS.set(0);
+        MISSES.set(0);
+    }
+}
@@ -0,0 +1,76 @@
+package de.yoshlix.bingobackpack.storage;
+
+import de.yoshlix.bingobackpack.jfr.BackpackIoEvent;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.item.ItemStack;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Snapshot plus append-only slot journal per team.
+ * 
+ * A change only appends the changed slots to {@code <team>.bpj}, so the
+ * cost of a save no longer depends on the backpack size. Once a journal grows
+ * past backpackJournalCompactThreshold records it is folded into a fresh
+ * snapshot on the I/O thread.
+ */
+public class JournaledBackpackStorage extends SnapshotBackpackStorage {
+
+    private final int compactThreshold;
+    // Records in each team's journal since the last snapshot
+    private final Map<String, Integer> journalEntries = new HashMap<>();
+
+    public JournaledBackpackStorage(Path dataDir, RegistryAccess registries, boolean compress,
+            int compactThreshold) {
+        super(dataDir, registries, compress);
+        this.compactThreshold = compactThreshold;
+    }
+
+    @Override
+    public synchronized void write(String teamName, ItemStack[] items, int[] changedSlots) throws IOException {
+        if (changedSlots == null) {
+            compact(teamName, items);
+            return;
+        }
+        if (changedSlots.length == 0) {
+            return;
+        }
+
+        BackpackIoEvent event = new BackpackIoEvent();
+        event.begin();
+        int bytes = BackpackJournal.append(journalFile(teamName), codec, slotCache(teamName), items, changedSlots);
+        event.commit(teamName, BackpackIoEvent.APPEND, bytes);
+
+        int entries = journalEntries.getOrDefault(teamName, 0) + changedSlots.length;
+        if (entries > compactThreshold) {
+            compact(teamName, items);
+        } else {
+            journalEntries.put(teamName, entries);
+        }
+    }
+
+    @Override
+    public synchronized void delete(String teamName) throws IOException {
+        journalEntries.remove(teamName);
+        super.delete(teamName);
+    }
+
+    @Override
+    public synchronized void deleteAll() throws IOException {
+        journalEntries.clear();
+        super.deleteAll();
+    }
+
+    @Override
+    protected void onJournalLoaded(String teamName, int entries) {
+        journalEntries.put(teamName, entries);
+    }
+
+    private void compact(String teamName, ItemStack[] items) throws IOException {
+        writeSnapshot(teamName, items);
+        journalEntries.remove(teamName);
+    }
+}
@@ -0,0 +1,391 @@
+package de.yoshlix.bingobackpack.storage;
+
+import de.yoshlix.bingobackpack.BingoBackpack;
+import de.yoshlix.bingobackpack.jfr.BackpackIoEvent;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.world.item.ItemStack;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Stores all team backpacks in one pre-allocated, memory-mapped region file.
+ * 
+ * Layout: header sectors with the index, followed by fixed-size data sectors.
+ * Each index entry maps a team name to a run of sectors holding the payload
+ * in the binary backpack format. Payloads from the first version of the file
+ * (GZIP-compressed NBT) are detected by their header and rewritten on load.
+ * 
+ * Every index entry has two slots, each with a sequence number and a CRC.
+ * Writes are copy-on-write: the payload goes to new sectors, then the slot
+ * not holding the current version is overwritten. On load the valid slot with
+ * the higher sequence wins, so a crash (even one that tears the slot) leaves
+ * either the old or the new backpack. Deleting a team only clears its entry.
+ * Files with the single-slot index of versions 1 and 2 are converted on open.
+ */
+public class RegionBackpackStorage implements BackpackStorage {
+    public static final String REGION_FILE = "backpacks.region";
+
+    private static final int MAGIC = 0x42425247; // "BBRG"
+    private static final int VERSION = 3;
+    private static final int SECTOR_SIZE = 4096;
+    private static final int MAX_TEAMS = 128;
+    private static final int MAX_NAME_BYTES = 112;
+    // short nameLength, name bytes, int firstSector, int sectorCount, int length, long sequence, int crc32
+    private static final int SLOT_DATA_SIZE = 2 + MAX_NAME_BYTES + 4 + 4 + 4 + 8;
+    private static final int SLOT_SIZE = SLOT_DATA_SIZE + 4;
+    private static final int ENTRY_SIZE = 2 * SLOT_SIZE;
+    private static final int INDEX_OFFSET = 16;
+    private static final int HEADER_SECTORS = headerSectors(ENTRY_SIZE);
+    // Versions 1 and 2: one unchecked slot per entry
+    private static final int V2_ENTRY_SIZE = 2 + MAX_NAME_BYTES + 4 + 4 + 4;
+
+    private final Path regionFile;
+    private final BinaryBackpackCodec codec;
+    private final BackpackSerializer legacySerializer;
+    // Per-team files written before the region backend was enabled, imported on first load
+    private final SnapshotBackpackStorage legacy;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, EncodedSlotCache> slotCaches = new HashMap<>();
+    private final BitSet usedSectors = new BitSet();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    public RegionBackpackStorage(Path dataDir, RegistryAccess registries, boolean compress, int initialSectors)
+            throws IOException {
+        this.regionFile = dataDir.resolve(REGION_FILE);
+        this.codec = new BinaryBackpackCodec(registries, compress);
+        this.legacySerializer = new BackpackSerializer(registries);
+        this.legacy = new SnapshotBackpackStorage(dataDir, registries, compress);
+        open(Math.max(initialSectors, HEADER_SECTORS + 1));
+    }
+
+    private static int headerSectors(int entrySize) {
+        return (INDEX_OFFSET + MAX_TEAMS * entrySize + SECTOR_SIZE - 1) / SECTOR_SIZE;
+    }
+
+    private void open(int initialSectors) throws IOException {
+        Path backup = backupFile();
+        if (Files.exists(backup)) {
+            // A conversion from the single-slot index did not finish, start it over
+            BingoBackpack.LOGGER.warn("Restoring the backpack region file from {}", backup.getFileName());
+            Files.move(backup, regionFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        channel = FileChannel.open(regionFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        boolean fresh = channel.size() < INDEX_OFFSET;
+        long size = Math.max(channel.size(), (long) initialSectors * SECTOR_SIZE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        usedSectors.set(0, HEADER_SECTORS);
+        if (fresh || buffer.getInt(0) != MAGIC) {
+            if (!fresh) {
+                BingoBackpack.LOGGER.warn("Backpack region file has an unknown header, starting empty");
+            }
+            initHeader();
+            return;
+        }
+        if (buffer.getInt(4) < VERSION) {
+            convertSingleSlot();
+            return;
+        }
+
+        for (int i = 0; i < MAX_TEAMS; i++) {
+            Entry first = readSlot(i, 0);
+            Entry second = readSlot(i, 1);
+            Entry entry = first == null ? second
+                    : second == null || first.sequence > second.sequence ? first : second;
+            if (entry == null) {
+                continue;
+            }
+            entries.put(entry.name, entry);
+            usedSectors.set(entry.firstSector, entry.firstSector + entry.sectorCount);
+        }
+    }
+
+    private void initHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, SECTOR_SIZE);
+        buffer.putInt(12, MAX_TEAMS);
+        for (int i = 0; i < MAX_TEAMS; i++) {
+            clearEntry(i);
+        }
+        buffer.force();
+    }
+
+    /**
+     * Slot of an index entry, or null if it is empty, torn or out of bounds.
+     */
+    private Entry readSlot(int index, int slot) {
+        int offset = slotOffset(index, slot);
+        int nameLength = buffer.getShort(offset);
+        if (nameLength <= 0 || nameLength > MAX_NAME_BYTES) {
+            return null;
+        }
+        if (buffer.getInt(offset + SLOT_DATA_SIZE) != slotCrc(offset)) {
+            BingoBackpack.LOGGER.warn("Backpack region entry {} slot {} has a bad checksum, ignoring it", index, slot);
+            return null;
+        }
+        byte[] name = new byte[nameLength];
+        buffer.get(offset + 2, name);
+        int firstSector = buffer.getInt(offset + 2 + MAX_NAME_BYTES);
+        int sectorCount = buffer.getInt(offset + 2 + MAX_NAME_BYTES + 4);
+        int length = buffer.getInt(offset + 2 + MAX_NAME_BYTES + 8);
+        long sequence = buffer.getLong(offset + 2 + MAX_NAME_BYTES + 12);
+        if (firstSector < HEADER_SECTORS
+                || (long) (firstSector + sectorCount) * SECTOR_SIZE > buffer.capacity()) {
+            BingoBackpack.LOGGER.warn("Backpack region entry {} points past the end of the file, dropping it", index);
+            return null;
+        }
+        return new Entry(new String(name, StandardCharsets.UTF_8), index, slot, sequence, firstSector, sectorCount,
+                length);
+    }
+
+    private int slotCrc(int offset) {
+        byte[] data = new byte[SLOT_DATA_SIZE];
+        buffer.get(offset, data);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Rewrite a version 1 or 2 file (single slot per entry, smaller header) in
+     * the current layout. A copy of the old file is kept until the conversion is
+     * on disk.
+     */
+    private void convertSingleSlot() throws IOException {
+        int oldHeaderSectors = headerSectors(V2_ENTRY_SIZE);
+        Map<String, byte[]> payloads = new LinkedHashMap<>();
+        for (int i = 0; i < MAX_TEAMS; i++) {
+            int offset = INDEX_OFFSET + i * V2_ENTRY_SIZE;
+            int nameLength = buffer.getShort(offset);
+            if (nameLength <= 0 || nameLength > MAX_NAME_BYTES) {
+                continue;
+            }
+            byte[] name = new byte[nameLength];
+            buffer.get(offset + 2, name);
+            int firstSector = buffer.getInt(offset + 2 + MAX_NAME_BYTES);
+            int length = buffer.getInt(offset + 2 + MAX_NAME_BYTES + 8);
+            if (firstSector < oldHeaderSectors || length < 0
+                    || (long) firstSector * SECTOR_SIZE + length > buffer.capacity()) {
+                BingoBackpack.LOGGER.warn("Backpack region entry {} points past the end of the file, dropping it", i);
+                continue;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(firstSector * SECTOR_SIZE, payload);
+            payloads.put(new String(name, StandardCharsets.UTF_8), payload);
+        }
+
+        Path tempBackup = regionFile.resolveSibling(REGION_FILE + ".old.tmp");
+        Files.copy(regionFile, tempBackup, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tempBackup, backupFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        initHeader();
+        for (Map.Entry<String, byte[]> payload : payloads.entrySet()) {
+            writePayload(payload.getKey(), payload.getValue());
+        }
+        buffer.force();
+        Files.delete(backupFile());
+        BingoBackpack.LOGGER.info("Converted backpack region file with {} teams to version {}", payloads.size(),
+                VERSION);
+    }
+
+    private Path backupFile() {
+        return regionFile.resolveSibling(REGION_FILE + ".old");
+    }
+
+    @Override
+    public synchronized ItemStack[] load(String teamName, int size) throws IOException {
+        Entry entry = entries.get(teamName);
+        if (entry == null) {
+            return importLegacy(teamName, size);
+        }
+
+        BackpackIoEvent event = new BackpackIoEvent();
+        event.begin();
+        ItemStack[] items = new ItemStack[size];
+        Arrays.fill(items, ItemStack.EMPTY);
+
+        byte[] payload = new byte[entry.length];
+        buffer.get(entry.firstSector * SECTOR_SIZE, payload);
+        if (BinaryBackpackCodec.isBinary(payload)) {
+            codec.decode(payload, items, slotCache(teamName));
+            if (!BinaryBackpackCodec.isCurrentVersion(payload)) {
+                write(teamName, items, null);
+            }
+        } else {
+            CompoundTag rootTag = NbtIo.readCompressed(new ByteArrayInputStream(payload),
+                    NbtAccounter.unlimitedHeap());
+            legacySerializer.decodeItems(rootTag, items);
+            write(teamName, items, null);
+        }
+        event.commit(teamName, BackpackIoEvent.LOAD, payload.length);
+        return items;
+    }
+
+    @Override
+    public synchronized void write(String teamName, ItemStack[] items, int[] changedSlots) throws IOException {
+        BackpackIoEvent event = new BackpackIoEvent();
+        event.begin();
+        byte[] payload = codec.encode(items, slotCache(teamName));
+        writePayload(teamName, payload);
+        event.commit(teamName, BackpackIoEvent.WRITE, payload.length);
+    }
+
+    private void writePayload(String teamName, byte[] payload) throws IOException {
+        Entry previous = entries.get(teamName);
+        int index = previous != null ? previous.index : freeIndex(teamName);
+        byte[] name = teamName.getBytes(StandardCharsets.UTF_8);
+
+        int sectorCount = (payload.length + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        int firstSector = allocate(sectorCount);
+        buffer.put(firstSector * SECTOR_SIZE, payload);
+        buffer.force();
+
+        // Publish the new sectors only after the payload is on disk, in the slot
+        // not holding the current version
+        int slot = previous != null ? 1 - previous.slot : 0;
+        long sequence = previous != null ? previous.sequence + 1 : 1;
+        int offset = slotOffset(index, slot);
+        buffer.putShort(offset, (short) name.length);
+        buffer.put(offset + 2, new byte[MAX_NAME_BYTES]);
+        buffer.put(offset + 2, name);
+        buffer.putInt(offset + 2 + MAX_NAME_BYTES, firstSector);
+        buffer.putInt(offset + 2 + MAX_NAME_BYTES + 4, sectorCount);
+        buffer.putInt(offset + 2 + MAX_NAME_BYTES + 8, payload.length);
+        buffer.putLong(offset + 2 + MAX_NAME_BYTES + 12, sequence);
+        buffer.putInt(offset + SLOT_DATA_SIZE, slotCrc(offset));
+        buffer.force();
+
+        if (previous != null) {
+            usedSectors.clear(previous.firstSector, previous.firstSector + previous.sectorCount);
+        }
+        entries.put(teamName, new Entry(teamName, index, slot, sequence, firstSector, sectorCount, payload.length));
+    }
+
+    @Override
+    public synchronized void delete(String teamName) throws IOException {
+        slotCaches.remove(teamName);
+        Entry entry = entries.remove(teamName);
+        if (entry != null) {
+            clearEntry(entry.index);
+            buffer.force();
+            usedSectors.clear(entry.firstSector, entry.firstSector + entry.sectorCount);
+        }
+        legacy.delete(teamName);
+    }
+
+    @Override
+    public synchronized void deleteAll() throws IOException {
+        for (Entry entry : entries.values()) {
+            clearEntry(entry.index);
+        }
+        buffer.force();
+        entries.clear();
+        slotCaches.clear();
+        usedSectors.clear();
+        usedSectors.set(0, HEADER_SECTORS);
+        legacy.deleteAll();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * Move a backpack stored in the per-team file format into the region file.
+     */
+    private ItemStack[] importLegacy(String teamName, int size) throws IOException {
+        ItemStack[] items = legacy.load(teamName, size);
+        for (ItemStack stack : items) {
+            if (!stack.isEmpty()) {
+                write(teamName, items, null);
+                legacy.delete(teamName);
+                BingoBackpack.LOGGER.info("Imported backpack of team {} into the region file", teamName);
+                break;
+            }
+        }
+        return items;
+    }
+
+    private EncodedSlotCache slotCache(String teamName) {
+        return slotCaches.computeIfAbsent(teamName, name -> new EncodedSlotCache());
+    }
+
+    private int freeIndex(String teamName) throws IOException {
+        if (teamName.getBytes(StandardCharsets.UTF_8).length > MAX_NAME_BYTES) {
+            throw new IOException("Team name too long for the backpack region index: " + teamName);
+        }
+        boolean[] taken = new boolean[MAX_TEAMS];
+        for (Entry entry : entries.values()) {
+            taken[entry.index] = true;
+        }
+        for (int i = 0; i < MAX_TEAMS; i++) {
+            if (!taken[i]) {
+                return i;
+            }
+        }
+        throw new IOException("Backpack region index is full (" + MAX_TEAMS + " teams)");
+    }
+
+    /**
+     * Find a free run of sectors (first fit), growing and remapping the file if
+     * there is none.
+     */
+    private int allocate(int sectorCount) throws IOException {
+        int totalSectors = buffer.capacity() / SECTOR_SIZE;
+        int start = usedSectors.nextClearBit(HEADER_SECTORS);
+        while (start + sectorCount <= totalSectors) {
+            int nextUsed = usedSectors.nextSetBit(start);
+            if (nextUsed < 0 || nextUsed >= start + sectorCount) {
+                usedSectors.set(start, start + sectorCount);
+                return start;
+            }
+            start = usedSectors.nextClearBit(nextUsed);
+        }
+
+        int newSectors = Math.max(totalSectors * 2, start + sectorCount);
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) newSectors * SECTOR_SIZE);
+        usedSectors.set(start, start + sectorCount);
+        return start;
+    }
+
+    private void clearEntry(int index) {
+        int offset = entryOffset(index);
+        buffer.put(offset, new byte[ENTRY_SIZE]);
+    }
+
+    private static int entryOffset(int index) {
+        return INDEX_OFFSET + index * ENTRY_SIZE;
+    }
+
+    private static int slotOffset(int index, int slot) {
+        return entryOffset(index) + slot * SLOT_SIZE;
+    }
+
+    private record Entry(String name, int index, int slot, long sequence, int firstSector, int sectorCount,
+            int length) {
+    }
+}
@@ -0,0 +1,182 @@
+package de.yoshlix.bingobackpack.storage;
+
+import de.yoshlix.bingobackpack.BingoBackpack;
+import de.yoshlix.bingobackpack.jfr.BackpackIoEvent;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.world.item.ItemStack;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Stores every backpack as a full snapshot in the binary format in
+ * {@code <team>.bbp}. Each write replaces the whole file.
+ * 
+ * A {@code <team>.bpj} journal left behind by the journaled mode is replayed
+ * on load and removed by the next full write, so switching modes never loses
+ * data. Backpacks in the old NBT format ({@code <team>.dat} and
+ * {@code <team>.journal}) are converted once on first load.
+ */
+public class SnapshotBackpackStorage implements BackpackStorage {
+    protected static final String SNAPSHOT_SUFFIX = ".bbp";
+    protected static final String JOURNAL_SUFFIX = ".bpj";
+    protected static final String LEGACY_SNAPSHOT_SUFFIX = ".dat";
+    protected static final String LEGACY_JOURNAL_SUFFIX = ".journal";
+
+    protected final Path dataDir;
+    protected final BinaryBackpackCodec codec;
+    private final BackpackSerializer legacySerializer;
+    private final Map<String, EncodedSlotCache> slotCaches = new HashMap<>();
+
+    public SnapshotBackpackStorage(Path dataDir, RegistryAccess registries, boolean compress) {
+        this.dataDir = dataDir;
+        this.codec = new BinaryBackpackCodec(registries, compress);
+        this.legacySerializer = new BackpackSerializer(registries);
+    }
+
+    @Override
+    public synchronized ItemStack[] load(String teamName, int size) throws IOException {
+        BackpackIoEvent event = new BackpackIoEvent();
+        event.begin();
+        ItemStack[] items = new ItemStack[size];
+        Arrays.fill(items, ItemStack.EMPTY);
+
+        Path snapshotFile = snapshotFile(teamName);
+        boolean migrated = false;
+        boolean outdated = false;
+        long bytes = 0;
+        if (Files.exists(snapshotFile)) {
+            byte[] data = Files.readAllBytes(snapshotFile);
+            bytes += data.length;
+            codec.decode(data, items, slotCache(teamName));
+            outdated = !BinaryBackpackCodec.isCurrentVersion(data);
+        } else {
+            migrated = loadLegacy(teamName, items);
+        }
+
+        Path journalFile = journalFile(teamName);
+        boolean damaged = false;
+        if (Files.exists(journalFile)) {
+            bytes += Files.size(journalFile);
+            BackpackJournal.Replay replay = BackpackJournal.replay(journalFile, codec, items);
+            onJournalLoaded(teamName, replay.records());
+            damaged = replay.damaged();
+        }
+        event.commit(teamName, BackpackIoEvent.LOAD, bytes);
+
+        if ((damaged || outdated) && !migrated) {
+            // Fold the intact part of a damaged journal into a snapshot so new appends do not
+            // follow the bad bytes; outdated snapshots are rewritten with registry-keyed stacks
+            writeSnapshot(teamName, items);
+            onJournalLoaded(teamName, 0);
+        }
+        if (migrated) {
+            writeSnapshot(teamName, items);
+            deleteLegacy(teamName);
+            BingoBackpack.LOGGER.info("Migrated backpack of team {} to the binary format", teamName);
+        }
+        return items;
+    }
+
+    @Override
+    public synchronized void write(String teamName, ItemStack[] items, int[] changedSlots) throws IOException {
+        writeSnapshot(teamName, items);
+    }
+
+    @Override
+    public synchronized void delete(String teamName) throws IOException {
+        slotCaches.remove(teamName);
+        Files.deleteIfExists(snapshotFile(teamName));
+        Files.deleteIfExists(journalFile(teamName));
+        deleteLegacy(teamName);
+    }
+
+    @Override
+    public synchronized void deleteAll() throws IOException {
+        slotCaches.clear();
+        if (!Files.exists(dataDir))
+            return;
+
+        try (Stream<Path> files = Files.list(dataDir)) {
+            files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.endsWith(SNAPSHOT_SUFFIX) || name.endsWith(JOURNAL_SUFFIX)
+                        || name.endsWith(LEGACY_SNAPSHOT_SUFFIX) || name.endsWith(LEGACY_JOURNAL_SUFFIX);
+            }).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    BingoBackpack.LOGGER.error("Failed to delete backpack file: " + path, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Write a full snapshot atomically and drop the journal it supersedes.
+     */
+    protected void writeSnapshot(String teamName, ItemStack[] items) throws IOException {
+        Path snapshotFile = snapshotFile(teamName);
+        Path tempFile = dataDir.resolve(teamName + SNAPSHOT_SUFFIX + ".tmp");
+
+        BackpackIoEvent event = new BackpackIoEvent();
+        event.begin();
+        byte[] data = codec.encode(items, slotCache(teamName));
+        Files.write(tempFile, data);
+        Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(journalFile(teamName));
+        event.commit(teamName, BackpackIoEvent.WRITE, data.length);
+    }
+
+    /**
+     * Hook for subclasses that track the journal length.
+     */
+    protected void onJournalLoaded(String teamName, int entries) {
+    }
+
+    /**
+     * Read a backpack in the old NBT format. Returns true if any legacy file existed.
+     */
+    private boolean loadLegacy(String teamName, ItemStack[] items) throws IOException {
+        Path legacySnapshot = dataDir.resolve(teamName + LEGACY_SNAPSHOT_SUFFIX);
+        Path legacyJournal = dataDir.resolve(teamName + LEGACY_JOURNAL_SUFFIX);
+        boolean found = false;
+
+        if (Files.exists(legacySnapshot)) {
+            CompoundTag rootTag = NbtIo.readCompressed(legacySnapshot, NbtAccounter.unlimitedHeap());
+            legacySerializer.decodeItems(rootTag, items);
+            found = true;
+        }
+        if (Files.exists(legacyJournal)) {
+            BackpackJournal.replayLegacy(legacyJournal, legacySerializer, items);
+            found = true;
+        }
+        return found;
+    }
+
+    private void deleteLegacy(String teamName) throws IOException {
+        Files.deleteIfExists(dataDir.resolve(teamName + LEGACY_SNAPSHOT_SUFFIX));
+        Files.deleteIfExists(dataDir.resolve(teamName + LEGACY_JOURNAL_SUFFIX));
+    }
+
+    protected EncodedSlotCache slotCache(String teamName) {
+        return slotCaches.computeIfAbsent(teamName, name -> new EncodedSlotCache());
+    }
+
+    protected Path snapshotFile(String teamName) {
+        return dataDir.resolve(teamName + SNAPSHOT_SUFFIX);
+    }
+
+    protected Path journalFile(String teamName) {
+        return dataDir.resolve(teamName + JOURNAL_SUFFIX);
+    }
+}